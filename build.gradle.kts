@@ -32,13 +32,26 @@ dependencies {
     // Lombok
     compileOnly("org.projectlombok:lombok:1.18.32")
     annotationProcessor("org.projectlombok:lombok:1.18.32")
+
+    // Testes: JUnit 5 e os drivers embutidos usados pelos testes de armazenamento
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testRuntimeOnly("org.slf4j:slf4j-api:2.0.9")
+    testRuntimeOnly("org.xerial:sqlite-jdbc:3.45.1.0")
+    testRuntimeOnly("com.h2database:h2:2.2.224")
 }
 
 sourceSets {
     named("main") {
         java.setSrcDirs(listOf("src"))
+        // Os testes ficam em src/test/java, fora do jar do plugin
+        java.exclude("test/**")
         resources.setSrcDirs(listOf("src/main/resources"))
     }
+    named("test") {
+        java.setSrcDirs(listOf("src/test/java"))
+    }
 }
 
 tasks.processResources {
@@ -47,6 +60,23 @@ tasks.processResources {
     filesMatching("**/plugin.yml") { expand(mapOf("version" to version)) }
 }
 
+tasks.test {
+    // Medições de desempenho ficam fora da suíte de testes
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+val benchmark by tasks.registering(Test::class) {
+    description = "Mede a vazão dos armazenamentos da economia."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+}
+
 tasks.shadowJar {
     archiveClassifier.set("")
     // Incluir apenas VaultAPI como dependência embutida
@@ -1,12 +1,20 @@
 package net.milkbowl.vault;
 
+import java.nio.file.Path;
+
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.ServicesManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.plugins.EconomyStorage;
+import net.milkbowl.vault.economy.plugins.Economy_VaultLite;
+import net.milkbowl.vault.economy.plugins.FlatFileEconomyStorage;
+import net.milkbowl.vault.economy.plugins.JdbcEconomyStorage;
 import net.milkbowl.vault.permission.Permission;
+import net.milkbowl.vault.papi.BalanceLeaderboard;
 import net.milkbowl.vault.papi.VaultExpansion;
 
 import lombok.extern.slf4j.Slf4j;
@@ -39,13 +47,30 @@ public final class Vault extends JavaPlugin {
 	 */
 	private ServicesManager servicesManager;
 
+	/**
+	 * LuckPerms permission provider, kept to flush queued mutations on disable.
+	 */
+	private net.milkbowl.vault.permission.plugins.Permission_LuckPerms luckPermsPermissionProvider;
+
+	/**
+	 * Balance ranking shared by the placeholders and the economy.
+	 */
+	private final BalanceLeaderboard balanceLeaderboard = new BalanceLeaderboard();
+
+	/**
+	 * Built-in economy provider, null if disabled in the configuration.
+	 */
+	private Economy_VaultLite economyProvider;
+
 	/**
 	 * Initializes the plugin and registers available services.
 	 * 
 	 * <p>This method is called when the plugin is enabled and performs:</p>
 	 * <ul>
 	 *   <li>Basic services initialization</li>
+	 *   <li>Provider lookup cache through {@link VaultServices}</li>
 	 *   <li>Automatic LuckPerms registration (if available)</li>
+	 *   <li>Built-in economy registration (if enabled)</li>
 	 *   <li>Automatic PlaceholderAPI registration (if available)</li>
 	 * </ul>
 	 */
@@ -55,7 +80,10 @@ public final class Vault extends JavaPlugin {
 			return;
 		}
 		
+		saveDefaultConfig();
+		VaultServices.initialize(this);
 		registerLuckPermsServices();
+		registerEconomyServices();
 		registerPlaceholderAPIServices();
 		
 		log.info("[VaultLite] ✓ Inicializado com sucesso");
@@ -66,14 +94,21 @@ public final class Vault extends JavaPlugin {
 	/**
 	 * Cleans up plugin resources when disabled.
 	 * 
-	 * <p>Unregisters all services registered by this plugin
-	 * to prevent memory leaks.</p>
+	 * <p>Saves queued LuckPerms mutations and unregisters all services
+	 * registered by this plugin to prevent memory leaks.</p>
 	 */
 	@Override
 	public void onDisable() {
+		if (luckPermsPermissionProvider != null) {
+			luckPermsPermissionProvider.shutdown();
+		}
+		if (economyProvider != null) {
+			economyProvider.shutdown();
+		}
 		if (getServer() != null && getServer().getServicesManager() != null) {
 			getServer().getServicesManager().unregisterAll(this);
 		}
+		VaultServices.clear();
 		log.info("[VaultLite] ✗ Desabilitado");
 	}
 
@@ -122,7 +157,7 @@ public final class Vault extends JavaPlugin {
         }
 
 		// Registra Permission Provider
-		Permission luckPermsPermissionProvider = new net.milkbowl.vault.permission.plugins.Permission_LuckPerms(luckPermsApi);
+		this.luckPermsPermissionProvider = new net.milkbowl.vault.permission.plugins.Permission_LuckPerms(this, luckPermsApi);
 		if (servicesManager != null) {
 			servicesManager.register(
 				Permission.class, 
@@ -134,7 +169,7 @@ public final class Vault extends JavaPlugin {
 		}
 
 		// Registra Chat Provider
-		Chat luckPermsChatProvider = new net.milkbowl.vault.chat.plugins.Chat_LuckPerms(
+		net.milkbowl.vault.chat.plugins.Chat_LuckPerms luckPermsChatProvider = new net.milkbowl.vault.chat.plugins.Chat_LuckPerms(
 			this, 
 			luckPermsPermissionProvider, 
 			luckPermsApi
@@ -149,6 +184,76 @@ public final class Vault extends JavaPlugin {
 			);
 			log.info("[VaultLite] → Hook: LuckPerms Chat Provider ✓");
 		}
+
+		// Registra notificador de mudanças
+		if (servicesManager != null && luckPermsChatProvider.getChangeNotifier() != null) {
+			servicesManager.register(
+				net.milkbowl.vault.chat.plugins.MetaChangeNotifier.class, 
+				luckPermsChatProvider.getChangeNotifier(), 
+				this, 
+				ServicePriority.Normal
+			);
+		}
+	}
+
+	/**
+	 * Registers the built-in economy if enabled in the configuration.
+	 * 
+	 * <p>The provider is registered with low priority, so an economy plugin
+	 * installed on the server still takes precedence.</p>
+	 */
+	private void registerEconomyServices() {
+		if (!getConfig().getBoolean("economy.enabled", true)) {
+			log.info("[VaultLite] → Hook: Economia embutida desativada");
+			return;
+		}
+		
+		try {
+			this.economyProvider = new Economy_VaultLite(this, getConfig().getConfigurationSection("economy"), 
+				balanceLeaderboard, createEconomyStorage());
+		} catch (IllegalStateException exception) {
+			log.error("[VaultLite] ✗ Economia embutida desativada: {}", exception.getMessage(), exception);
+			return;
+		}
+		if (servicesManager != null) {
+			servicesManager.register(
+				Economy.class, 
+				economyProvider, 
+				this, 
+				ServicePriority.Low
+			);
+			log.info("[VaultLite] → Hook: VaultLite Economy Provider ✓");
+		}
+	}
+
+	/**
+	 * Creates the economy storage backend selected by {@code economy.storage.type}.
+	 * 
+	 * <p>{@code flatfile} keeps a journal and snapshot in the data folder;
+	 * {@code jdbc} uses an embedded SQLite or H2 database.</p>
+	 * 
+	 * @return the storage backend
+	 */
+	private EconomyStorage createEconomyStorage() {
+		Path directory = getDataFolder().toPath().resolve("economy");
+		String type = getConfig().getString("economy.storage.type", "flatfile");
+		if ("jdbc".equalsIgnoreCase(type)) {
+			String url = getConfig().getString("economy.storage.jdbc.url", "");
+			if (url == null || url.isBlank()) {
+				directory.toFile().mkdirs();
+				url = "jdbc:sqlite:" + directory.resolve("balances.db");
+			}
+			return new JdbcEconomyStorage(
+				url,
+				getConfig().getString("economy.storage.jdbc.username", ""),
+				getConfig().getString("economy.storage.jdbc.password", "")
+			);
+		}
+		if (!"flatfile".equalsIgnoreCase(type)) {
+			log.warn("[VaultLite] ⚠ Tipo de armazenamento desconhecido '{}', usando flatfile", type);
+		}
+		return new FlatFileEconomyStorage(directory,
+			getConfig().getLong("economy.storage.flatfile.compact-kb", 4096L) * 1024L);
 	}
 
 	/**
@@ -164,7 +269,8 @@ public final class Vault extends JavaPlugin {
 			return;
 		}
 		
-		new VaultExpansion().register();
+		long balanceStalenessMillis = getConfig().getLong("placeholders.balance-staleness-ms", 5000L);
+		new VaultExpansion(this, balanceStalenessMillis, balanceLeaderboard).register();
 		log.info("[VaultLite] → Hook: PlaceholderAPI Expansion ✓");
     }
 }
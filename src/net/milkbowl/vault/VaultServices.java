@@ -0,0 +1,176 @@
+package net.milkbowl.vault;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicesManager;
+
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.permission.Permission;
+
+/**
+ * Shared lookup facade for the Vault service providers.
+ * 
+ * <p>Resolving a provider through the {@link ServicesManager} scans a
+ * synchronized registry on every call. This facade resolves the Economy,
+ * Permission and Chat providers once, keeps them in volatile fields and
+ * re-resolves a service only when a provider for it is registered or
+ * unregistered, so lookups from placeholders and other hot paths are a
+ * single field read.</p>
+ * 
+ * <pre>{@code
+ * Economy economy = VaultServices.economy();
+ * if (economy != null) { ... }
+ * }</pre>
+ * 
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class VaultServices {
+
+	/**
+	 * Highest priority Economy provider, or null if none is registered.
+	 */
+	private static volatile Economy economy;
+
+	/**
+	 * Highest priority Permission provider, or null if none is registered.
+	 */
+	private static volatile Permission permission;
+
+	/**
+	 * Highest priority Chat provider, or null if none is registered.
+	 */
+	private static volatile Chat chat;
+
+	/**
+	 * Utility class, not instantiable.
+	 */
+	private VaultServices() {
+	}
+
+	/**
+	 * Starts tracking service registrations and resolves every provider.
+	 * 
+	 * <p>Called by VaultLite when it is enabled, before its own providers
+	 * are registered.</p>
+	 * 
+	 * @param plugin the plugin instance
+	 */
+	static void initialize(Plugin plugin) {
+		Bukkit.getServer().getPluginManager().registerEvents(new ServiceListener(), plugin);
+		refreshAll();
+	}
+
+	/**
+	 * Drops every resolved provider.
+	 * 
+	 * <p>Called by VaultLite when it is disabled.</p>
+	 */
+	static void clear() {
+		economy = null;
+		permission = null;
+		chat = null;
+	}
+
+	/**
+	 * Returns the active Economy provider.
+	 * 
+	 * @return the provider or null if none is registered
+	 */
+	public static Economy economy() {
+		return economy;
+	}
+
+	/**
+	 * Returns the active Permission provider.
+	 * 
+	 * @return the provider or null if none is registered
+	 */
+	public static Permission permission() {
+		return permission;
+	}
+
+	/**
+	 * Returns the active Chat provider.
+	 * 
+	 * @return the provider or null if none is registered
+	 */
+	public static Chat chat() {
+		return chat;
+	}
+
+	/**
+	 * Re-resolves every provider.
+	 */
+	private static void refreshAll() {
+		economy = resolve(Economy.class);
+		permission = resolve(Permission.class);
+		chat = resolve(Chat.class);
+	}
+
+	/**
+	 * Re-resolves the provider of a service if it is one of the tracked ones.
+	 * 
+	 * @param service the service whose registrations changed
+	 */
+	private static void refresh(Class<?> service) {
+		if (service == Economy.class) {
+			economy = resolve(Economy.class);
+		} else if (service == Permission.class) {
+			permission = resolve(Permission.class);
+		} else if (service == Chat.class) {
+			chat = resolve(Chat.class);
+		}
+	}
+
+	/**
+	 * Resolves the highest priority provider of a service.
+	 * 
+	 * @param <T> the service type
+	 * @param service the service class
+	 * @return the provider or null if none is registered
+	 */
+	private static <T> T resolve(Class<T> service) {
+		ServicesManager servicesManager = Bukkit.getServicesManager();
+		if (servicesManager == null) {
+			return null;
+		}
+		
+		RegisteredServiceProvider<T> registration = servicesManager.getRegistration(service);
+		return registration == null ? null : registration.getProvider();
+	}
+
+	/**
+	 * Bukkit listener that re-resolves providers when registrations change.
+	 */
+	public static final class ServiceListener implements Listener {
+
+		/**
+		 * Re-resolves the service of a newly registered provider.
+		 * 
+		 * @param event the register event
+		 */
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onServiceRegister(ServiceRegisterEvent event) {
+			refresh(event.getProvider().getService());
+		}
+
+		/**
+		 * Re-resolves the service of an unregistered provider.
+		 * 
+		 * @param event the unregister event
+		 */
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onServiceUnregister(ServiceUnregisterEvent event) {
+			refresh(event.getProvider().getService());
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package net.milkbowl.vault.chat.plugins;
+
+import org.bukkit.entity.Player;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+
+/**
+ * A chat-format template compiled by {@link ChatFormatCompiler}.
+ *
+ * <p>Renders into a per-thread reused {@link StringBuilder} or into an
+ * Adventure component built from the pre-parsed prefix and suffix, so a
+ * message costs one pass over the segments and the cached lookups of the
+ * sender's parts.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ChatFormat {
+
+    /**
+     * Reused render buffer of each thread.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    /**
+     * Chat provider supplying the cached player parts.
+     */
+    private final Chat_LuckPerms chat;
+
+    /**
+     * Compiled segments, in order.
+     */
+    private final Segment[] segments;
+
+    /**
+     * Constructs a new format.
+     *
+     * @param chat the chat provider supplying the cached player parts
+     * @param segments the compiled segments
+     */
+    ChatFormat(Chat_LuckPerms chat, Segment[] segments) {
+        this.chat = chat;
+        this.segments = segments;
+    }
+
+    /**
+     * Renders the format as a legacy string.
+     *
+     * <p>Prefixes, suffixes and literal text keep their {@code &} color codes;
+     * the display name is serialized to the same format.</p>
+     *
+     * @param player the sender
+     * @param message the message (can be null)
+     * @return the rendered line
+     */
+    public String render(Player player, String message) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        String world = player.getWorld().getName();
+        for (Segment segment : segments) {
+            switch (segment.part()) {
+                case LITERAL -> buffer.append(segment.text());
+                case PREFIX -> buffer.append(chat.getPlayerPrefix(world, player));
+                case SUFFIX -> buffer.append(chat.getPlayerSuffix(world, player));
+                case GROUP -> appendGroup(buffer, world, player);
+                case NAME -> buffer.append(player.getName());
+                case DISPLAY_NAME -> buffer.append(MetaSnapshot.serialize(player.displayName()));
+                case WORLD -> buffer.append(world);
+                case MESSAGE -> buffer.append(message == null ? "" : message);
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Renders the format as a component.
+     *
+     * @param player the sender
+     * @param message the message (can be null)
+     * @return the rendered line
+     */
+    public Component renderComponent(Player player, Component message) {
+        TextComponent.Builder builder = Component.text();
+        String world = player.getWorld().getName();
+        for (Segment segment : segments) {
+            switch (segment.part()) {
+                case LITERAL -> builder.append(segment.component());
+                case PREFIX -> builder.append(chat.getPlayerPrefixComponent(world, player));
+                case SUFFIX -> builder.append(chat.getPlayerSuffixComponent(world, player));
+                case GROUP -> {
+                    String group = chat.getPermissionProvider().getPrimaryGroup(world, player);
+                    if (group != null) {
+                        builder.append(Component.text(group));
+                    }
+                }
+                case NAME -> builder.append(Component.text(player.getName()));
+                case DISPLAY_NAME -> builder.append(player.displayName());
+                case WORLD -> builder.append(Component.text(world));
+                case MESSAGE -> {
+                    if (message != null) {
+                        builder.append(message);
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Appends the primary group of a player, if any.
+     *
+     * @param buffer the render buffer
+     * @param world the world to resolve the group in
+     * @param player the player
+     */
+    private void appendGroup(StringBuilder buffer, String world, Player player) {
+        String group = chat.getPermissionProvider().getPrimaryGroup(world, player);
+        if (group != null) {
+            buffer.append(group);
+        }
+    }
+
+    /**
+     * Kind of a compiled segment.
+     */
+    enum Part {
+        LITERAL, PREFIX, SUFFIX, GROUP, NAME, DISPLAY_NAME, WORLD, MESSAGE
+    }
+
+    /**
+     * A compiled segment.
+     *
+     * @param part the segment kind
+     * @param text the literal text, for {@link Part#LITERAL} only
+     * @param component the pre-parsed literal, for {@link Part#LITERAL} only
+     */
+    record Segment(Part part, String text, Component component) {
+    }
+}
@@ -0,0 +1,134 @@
+package net.milkbowl.vault.chat.plugins;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Compiles chat-format templates into reusable {@link ChatFormat}s.
+ *
+ * <p>A template such as {@code {prefix}{name}{suffix}: {message}} is parsed
+ * once into a segment array; rendering then only walks the segments and
+ * appends the player's cached prefix, suffix and group. Supported
+ * placeholders are {@code {prefix}}, {@code {suffix}}, {@code {group}},
+ * {@code {name}}, {@code {displayname}}, {@code {world}} and
+ * {@code {message}}. Unknown placeholders are kept as literal text, and
+ * literal text may use {@code &} color codes.</p>
+ *
+ * <pre>{@code
+ * ChatFormat format = chat.getFormatCompiler().compile("{prefix}{name}{suffix}&7: {message}");
+ * event.renderer((source, displayName, message, viewer) -> format.renderComponent(source, message));
+ * }</pre>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ChatFormatCompiler {
+
+    /**
+     * Chat provider supplying the cached player parts.
+     */
+    private final Chat_LuckPerms chat;
+
+    /**
+     * Compiled formats indexed by template.
+     */
+    private final Map<String, ChatFormat> formats = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new compiler.
+     *
+     * @param chat the chat provider supplying the cached player parts
+     */
+    public ChatFormatCompiler(Chat_LuckPerms chat) {
+        this.chat = chat;
+    }
+
+    /**
+     * Returns the compiled format of a template, compiling it on first use.
+     *
+     * @param template the template
+     * @return the compiled format
+     */
+    public ChatFormat compile(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("template cannot be null");
+        }
+
+        ChatFormat format = formats.get(template);
+        return format != null ? format : formats.computeIfAbsent(template, key -> new ChatFormat(chat, parse(key)));
+    }
+
+    /**
+     * Splits a template into literal and placeholder segments.
+     *
+     * @param template the template
+     * @return the segments, with adjacent literals merged
+     */
+    static ChatFormat.Segment[] parse(String template) {
+        List<ChatFormat.Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < template.length()) {
+            int open = template.indexOf('{', index);
+            int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+            if (close < 0) {
+                literal.append(template, index, template.length());
+                break;
+            }
+
+            ChatFormat.Part part = partOf(template.substring(open + 1, close));
+            if (part == null) {
+                literal.append(template, index, close + 1);
+            } else {
+                literal.append(template, index, open);
+                addLiteral(segments, literal);
+                segments.add(new ChatFormat.Segment(part, null, null));
+            }
+            index = close + 1;
+        }
+        addLiteral(segments, literal);
+        return segments.toArray(new ChatFormat.Segment[0]);
+    }
+
+    /**
+     * Flushes pending literal text into a segment.
+     *
+     * @param segments the segments being built
+     * @param literal the pending literal text, cleared afterwards
+     */
+    private static void addLiteral(List<ChatFormat.Segment> segments, StringBuilder literal) {
+        if (literal.length() == 0) {
+            return;
+        }
+
+        String text = literal.toString();
+        Component component = MetaSnapshot.parse(text);
+        segments.add(new ChatFormat.Segment(ChatFormat.Part.LITERAL, text, component));
+        literal.setLength(0);
+    }
+
+    /**
+     * Resolves a placeholder name.
+     *
+     * @param name the placeholder name, without braces
+     * @return the part, or null if the placeholder is unknown
+     */
+    private static ChatFormat.Part partOf(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "prefix" -> ChatFormat.Part.PREFIX;
+            case "suffix" -> ChatFormat.Part.SUFFIX;
+            case "group" -> ChatFormat.Part.GROUP;
+            case "name" -> ChatFormat.Part.NAME;
+            case "displayname" -> ChatFormat.Part.DISPLAY_NAME;
+            case "world" -> ChatFormat.Part.WORLD;
+            case "message" -> ChatFormat.Part.MESSAGE;
+            default -> null;
+        };
+    }
+}
@@ -1,18 +1,42 @@
 package net.milkbowl.vault.chat.plugins;
 
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 
+import net.kyori.adventure.text.Component;
 import net.luckperms.api.LuckPerms;
+import net.luckperms.api.cacheddata.CachedMetaData;
+import net.luckperms.api.context.DefaultContextKeys;
+import net.luckperms.api.context.ImmutableContextSet;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.group.GroupDeleteEvent;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.event.user.UserUnloadEvent;
+import net.luckperms.api.model.PermissionHolder;
+import net.luckperms.api.model.group.Group;
 import net.luckperms.api.model.user.User;
+import net.luckperms.api.node.ChatMetaType;
+import net.luckperms.api.node.NodeType;
+import net.luckperms.api.node.types.ChatMetaNode;
+import net.luckperms.api.node.types.MetaNode;
 import net.luckperms.api.query.QueryOptions;
 import net.milkbowl.vault.chat.Chat;
-import net.milkbowl.vault.permission.Permission;
+import net.milkbowl.vault.permission.plugins.PendingOverlay;
+import net.milkbowl.vault.permission.plugins.Permission_LuckPerms;
 
-import lombok.Data;
-import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,7 +51,12 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Support for contextual prefixes and suffixes</li>
  *   <li>Integration with LuckPerms metadata</li>
  *   <li>World support</li>
- *   <li>Read-only implementation for mutations</li>
+ *   <li>Cached prefixes and suffixes with pre-parsed Adventure components</li>
+ *   <li>Cached player meta, pre-parsed into every info type</li>
+ *   <li>Cached group prefixes, suffixes and meta</li>
+ *   <li>Write-behind prefix, suffix and meta mutations, visible to reads immediately</li>
+ *   <li>Change notifications through {@link MetaChangeNotifier}</li>
+ *   <li>Compiled chat-format templates through {@link ChatFormatCompiler}</li>
  *   <li>Full compatibility with Vault Chat API</li>
  * </ul>
  * 
@@ -35,26 +64,129 @@ import lombok.extern.slf4j.Slf4j;
  * @version 1.0.0
  * @since 1.0.0
  */
-@Data
-@EqualsAndHashCode(callSuper = false)
 @Slf4j
 public final class Chat_LuckPerms extends Chat {
 
+    /**
+     * Overlay slot of the prefix.
+     */
+    private static final String PREFIX_SLOT = "prefix";
+
+    /**
+     * Overlay slot of the suffix.
+     */
+    private static final String SUFFIX_SLOT = "suffix";
+
+    /**
+     * Overlay slot prefix of meta keys.
+     */
+    private static final String META_SLOT_PREFIX = "meta.";
+
+    /**
+     * Priority added on top of the highest existing one when setting a prefix or suffix.
+     */
+    private static final int CHAT_META_PRIORITY_STEP = 10;
+
 	/**
 	 * LuckPerms API instance for chat operations.
 	 */
+    @Getter
     private final LuckPerms luckPerms;
 
+    /**
+     * Associated permission provider, shared for world query options.
+     */
+    @Getter
+    private final Permission_LuckPerms permissionProvider;
+
+    /**
+     * Resolved prefix and suffix snapshots indexed by user UUID.
+     */
+    private final MetaCache<UUID> userMetaCache = new MetaCache<>();
+
+    /**
+     * Resolved group meta snapshots indexed by lowercase group name.
+     */
+    private final MetaCache<String> groupMetaCache = new MetaCache<>();
+
+    /**
+     * User writes queued but not saved yet.
+     */
+    private final PendingOverlay<UUID, MetaValue> userOverlay = new PendingOverlay<>();
+
+    /**
+     * Group writes queued but not saved yet, indexed by lowercase group name.
+     */
+    private final PendingOverlay<String, MetaValue> groupOverlay = new PendingOverlay<>();
+
+    /**
+     * Notifier pushing prefix, suffix, primary group and meta changes, null without LuckPerms.
+     */
+    @Getter
+    private final MetaChangeNotifier changeNotifier;
+
+    /**
+     * Compiler of chat-format templates rendered from the cached player parts.
+     */
+    @Getter
+    private final ChatFormatCompiler formatCompiler = new ChatFormatCompiler(this);
+
     /**
      * Constructs a new instance of the Chat Provider for LuckPerms.
      * 
+     * <p>Subscribes to LuckPerms recalculation events and registers the
+     * listener that keeps the meta cache consistent.</p>
+     * 
      * @param plugin the plugin instance
      * @param perms the associated permission provider
      * @param luckPerms the LuckPerms API instance
      */
-    public Chat_LuckPerms(Plugin plugin, Permission perms, LuckPerms luckPerms) {
+    public Chat_LuckPerms(Plugin plugin, Permission_LuckPerms perms, LuckPerms luckPerms) {
         super(perms);
         this.luckPerms = luckPerms;
+        this.permissionProvider = perms;
+        this.changeNotifier = plugin == null || luckPerms == null ? null : new MetaChangeNotifier(plugin, luckPerms);
+
+        if (plugin != null && luckPerms != null) {
+            luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                    event -> userMetaCache.invalidate(event.getUser().getUniqueId()));
+            luckPerms.getEventBus().subscribe(plugin, UserUnloadEvent.class,
+                    event -> userMetaCache.invalidate(event.getUser().getUniqueId()));
+            luckPerms.getEventBus().subscribe(plugin, GroupDataRecalculateEvent.class,
+                    event -> invalidateGroup(event.getGroup().getName()));
+            luckPerms.getEventBus().subscribe(plugin, GroupDeleteEvent.class,
+                    event -> invalidateGroup(event.getGroupName()));
+            luckPerms.getEventBus().subscribe(plugin, NodeMutateEvent.class, event -> {
+                if (event.isGroup()) {
+                    invalidateInheritors();
+                }
+            });
+            Bukkit.getServer().getPluginManager().registerEvents(new ChatServerListener(), plugin);
+        }
+    }
+
+    /**
+     * Drops the cached meta of a single group.
+     * 
+     * @param groupName the group name
+     */
+    private void invalidateGroup(String groupName) {
+        if (groupName != null) {
+            groupMetaCache.invalidate(groupName.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Drops the cached meta of every group and user after a group's nodes change.
+     * 
+     * <p>Groups and users inheriting the changed group are recalculated by
+     * LuckPerms lazily, without an event, so every snapshot that may carry
+     * inherited meta is dropped. Group recalculations alone only drop the
+     * recalculated group.</p>
+     */
+    private void invalidateInheritors() {
+        groupMetaCache.invalidateAll();
+        userMetaCache.invalidateAll();
     }
 
     /**
@@ -88,65 +220,187 @@ public final class Chat_LuckPerms extends Chat {
             return null;
         }
         
-        Player online = player.getPlayer();
-        if (online == null) {
+        return permissionProvider.getUser(player.getUniqueId());
+    }
+
+    /**
+     * Gets the LuckPerms user for a player name.
+     * 
+     * <p>Names are resolved through the permission provider's name index,
+     * so offline names are supported as well.</p>
+     * 
+     * @param playerName the player name
+     * @return the LuckPerms user or null if not found
+     */
+    private User userOf(String playerName) {
+        if (playerName == null || luckPerms == null) {
+            return null;
+        }
+        
+        UUID uniqueId = permissionProvider.getUUID(playerName);
+        if (uniqueId == null) {
             return null;
         }
         
-        return luckPerms.getPlayerAdapter(Player.class)
-                .getUser(online);
+        return permissionProvider.getUser(uniqueId);
     }
 
     /**
-     * Returns a player's prefix.
+     * Returns the cached meta snapshot of a user in a world, resolving it on first use.
      * 
-     * @param world the world (not used in LuckPerms)
+     * @param world the world to resolve the meta in (can be null)
+     * @param user the LuckPerms user
+     * @return the meta snapshot
+     */
+    private MetaSnapshot metaOf(String world, User user) {
+        MetaCache.HolderSnapshots snapshots = userMetaCache.forHolder(user.getUniqueId());
+        MetaSnapshot snapshot = snapshots.get(world);
+        if (snapshot == null) {
+            snapshot = MetaSnapshot.of(user.getCachedData()
+                    .getMetaData(permissionProvider.getWorldQueryOptions().forWorld(world)));
+            snapshots.put(world, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a player's cached meta value.
+     * 
+     * @param world the world to resolve the meta in (can be null)
      * @param playerName the player name
-     * @return the player's prefix or empty string if not found
+     * @param node the meta key
+     * @return the parsed value, or an absent value if the player or key is not found
      */
-    @Override
-    public String getPlayerPrefix(String world, String playerName) {
-        if (playerName == null) {
-            return "";
+    private MetaValue playerMeta(String world, String playerName, String node) {
+        User luckPermsUser = userOf(playerName);
+        if (luckPermsUser == null || node == null) {
+            return MetaValue.ABSENT;
+        }
+        
+        UUID uniqueId = luckPermsUser.getUniqueId();
+        MetaValue pending = userOverlay.hasPending(uniqueId)
+                ? userOverlay.get(uniqueId, world, META_SLOT_PREFIX + node) : null;
+        return pending != null ? pending : metaOf(world, luckPermsUser).meta(node);
+    }
+
+    /**
+     * Returns a player's prefix or suffix, preferring a pending write.
+     * 
+     * @param world the world to resolve the value in (can be null)
+     * @param user the LuckPerms user
+     * @param slot the prefix or suffix slot
+     * @return the value or empty string if not set
+     */
+    private String playerChatMeta(String world, User user, String slot) {
+        MetaValue pending = userOverlay.get(user.getUniqueId(), world, slot);
+        if (pending != null) {
+            return pending.asString("");
         }
         
-        Player online = Bukkit.getPlayerExact(playerName);
-        if (online == null) {
+        MetaSnapshot snapshot = metaOf(world, user);
+        return PREFIX_SLOT.equals(slot) ? snapshot.prefix() : snapshot.suffix();
+    }
+
+    /**
+     * Returns the cached meta snapshot of a group in a world, resolving it on first use.
+     * 
+     * @param world the world to resolve the meta in (can be null)
+     * @param groupName the group name
+     * @return the meta snapshot or null if the group does not exist
+     */
+    private MetaSnapshot groupMetaOf(String world, String groupName) {
+        if (groupName == null || luckPerms == null) {
+            return null;
+        }
+        
+        MetaCache.HolderSnapshots snapshots = groupMetaCache.forHolder(groupName.toLowerCase(Locale.ROOT));
+        MetaSnapshot snapshot = snapshots.get(world);
+        if (snapshot == null) {
+            Group group = luckPerms.getGroupManager().getGroup(groupName);
+            if (group == null) {
+                return null;
+            }
+            
+            snapshot = MetaSnapshot.of(group.getCachedData()
+                    .getMetaData(permissionProvider.getWorldQueryOptions().forWorld(world)));
+            snapshots.put(world, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a group's cached meta value.
+     * 
+     * @param world the world to resolve the meta in (can be null)
+     * @param groupName the group name
+     * @param node the meta key
+     * @return the parsed value, or an absent value if the group or key is not found
+     */
+    private MetaValue groupMeta(String world, String groupName, String node) {
+        if (groupName == null || node == null) {
+            return MetaValue.ABSENT;
+        }
+        
+        String lowerName = groupName.toLowerCase(Locale.ROOT);
+        MetaValue pending = groupOverlay.hasPending(lowerName)
+                ? groupOverlay.get(lowerName, world, META_SLOT_PREFIX + node) : null;
+        if (pending != null) {
+            return pending;
+        }
+        
+        MetaSnapshot snapshot = groupMetaOf(world, groupName);
+        return snapshot == null ? MetaValue.ABSENT : snapshot.meta(node);
+    }
+
+    /**
+     * Returns a group's prefix or suffix, preferring a pending write.
+     * 
+     * @param world the world to resolve the value in (can be null)
+     * @param groupName the group name
+     * @param slot the prefix or suffix slot
+     * @return the value or empty string if not found
+     */
+    private String groupChatMeta(String world, String groupName, String slot) {
+        if (groupName == null) {
             return "";
         }
         
-        User luckPermsUser = luckPerms.getPlayerAdapter(Player.class)
-                .getUser(online);
-        String playerPrefix = luckPermsUser.getCachedData()
-                .getMetaData(QueryOptions.defaultContextualOptions())
-                .getPrefix();
-        return playerPrefix == null ? "" : playerPrefix;
+        MetaValue pending = groupOverlay.get(groupName.toLowerCase(Locale.ROOT), world, slot);
+        if (pending != null) {
+            return pending.asString("");
+        }
+        
+        MetaSnapshot snapshot = groupMetaOf(world, groupName);
+        if (snapshot == null) {
+            return "";
+        }
+        return PREFIX_SLOT.equals(slot) ? snapshot.prefix() : snapshot.suffix();
+    }
+
+    /**
+     * Returns a player's prefix.
+     * 
+     * @param world the world to resolve the prefix in (can be null)
+     * @param playerName the player name
+     * @return the player's prefix or empty string if not found
+     */
+    @Override
+    public String getPlayerPrefix(String world, String playerName) {
+        User luckPermsUser = userOf(playerName);
+        return luckPermsUser == null ? "" : playerChatMeta(world, luckPermsUser, PREFIX_SLOT);
     }
 
     /**
      * Returns a player's suffix.
      * 
-     * @param world the world (not used in LuckPerms)
+     * @param world the world to resolve the suffix in (can be null)
      * @param playerName the player name
      * @return the player's suffix or empty string if not found
      */
     @Override
     public String getPlayerSuffix(String world, String playerName) {
-        if (playerName == null) {
-            return "";
-        }
-        
-        Player online = Bukkit.getPlayerExact(playerName);
-        if (online == null) {
-            return "";
-        }
-        
-        User luckPermsUser = luckPerms.getPlayerAdapter(Player.class)
-                .getUser(online);
-        String playerSuffix = luckPermsUser.getCachedData()
-                .getMetaData(QueryOptions.defaultContextualOptions())
-                .getSuffix();
-        return playerSuffix == null ? "" : playerSuffix;
+        User luckPermsUser = userOf(playerName);
+        return luckPermsUser == null ? "" : playerChatMeta(world, luckPermsUser, SUFFIX_SLOT);
     }
 
     /**
@@ -157,14 +411,7 @@ public final class Chat_LuckPerms extends Chat {
      */
     public String getPlayerPrefix(OfflinePlayer player) {
         User user = userOf(player);
-        if (user == null) {
-            return "";
-        }
-        
-        String playerPrefix = user.getCachedData()
-                .getMetaData(QueryOptions.defaultContextualOptions())
-                .getPrefix();
-        return playerPrefix == null ? "" : playerPrefix;
+        return user == null ? "" : playerChatMeta(null, user, PREFIX_SLOT);
     }
 
     /**
@@ -174,302 +421,590 @@ public final class Chat_LuckPerms extends Chat {
      * @return the player's suffix or empty string if not found
      */
     public String getPlayerSuffix(OfflinePlayer player) {
+        User user = userOf(player);
+        return user == null ? "" : playerChatMeta(null, user, SUFFIX_SLOT);
+    }
+
+    /**
+     * Returns a player's prefix in a world, resolved by UUID.
+     * 
+     * @param world the world to resolve the prefix in (can be null)
+     * @param player the offline player
+     * @return the player's prefix or empty string if not found
+     */
+    @Override
+    public String getPlayerPrefix(String world, OfflinePlayer player) {
+        User user = userOf(player);
+        return user == null ? "" : playerChatMeta(world, user, PREFIX_SLOT);
+    }
+
+    /**
+     * Returns a player's suffix in a world, resolved by UUID.
+     * 
+     * @param world the world to resolve the suffix in (can be null)
+     * @param player the offline player
+     * @return the player's suffix or empty string if not found
+     */
+    @Override
+    public String getPlayerSuffix(String world, OfflinePlayer player) {
+        User user = userOf(player);
+        return user == null ? "" : playerChatMeta(world, user, SUFFIX_SLOT);
+    }
+
+    /**
+     * Returns a player's prefix as a pre-parsed Adventure component.
+     * 
+     * <p>The component is parsed once from the legacy {@code &} format and
+     * reused until LuckPerms recalculates the player's data.</p>
+     * 
+     * @param world the world to resolve the prefix in (can be null)
+     * @param player the offline player
+     * @return the player's prefix or {@link Component#empty()} if not found
+     */
+    public Component getPlayerPrefixComponent(String world, OfflinePlayer player) {
         User user = userOf(player);
         if (user == null) {
-            return "";
+            return Component.empty();
         }
         
-        String playerSuffix = user.getCachedData()
-                .getMetaData(QueryOptions.defaultContextualOptions())
-                .getSuffix();
-        return playerSuffix == null ? "" : playerSuffix;
+        MetaValue pending = userOverlay.get(user.getUniqueId(), world, PREFIX_SLOT);
+        return pending != null ? MetaSnapshot.parse(pending.asString("")) : metaOf(world, user).prefixComponent();
     }
 
     /**
-     * Sets a player's prefix (not implemented - read-only).
+     * Returns a player's suffix as a pre-parsed Adventure component.
      * 
-     * @param world the world
+     * <p>The component is parsed once from the legacy {@code &} format and
+     * reused until LuckPerms recalculates the player's data.</p>
+     * 
+     * @param world the world to resolve the suffix in (can be null)
+     * @param player the offline player
+     * @return the player's suffix or {@link Component#empty()} if not found
+     */
+    public Component getPlayerSuffixComponent(String world, OfflinePlayer player) {
+        User user = userOf(player);
+        if (user == null) {
+            return Component.empty();
+        }
+        
+        MetaValue pending = userOverlay.get(user.getUniqueId(), world, SUFFIX_SLOT);
+        return pending != null ? MetaSnapshot.parse(pending.asString("")) : metaOf(world, user).suffixComponent();
+    }
+
+    /**
+     * Sets a player's prefix.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
+     * 
+     * @param world the world to scope the value to (can be null)
      * @param player the player name
-     * @param prefix the prefix
+     * @param prefix the prefix, or null or empty to clear it
      */
     @Override
     public void setPlayerPrefix(String world, String player, String prefix) {
-        // No-op: Read-only implementation
+        queuePlayerWrite(world, player, PREFIX_SLOT, prefix, chatMetaMutation(world, ChatMetaType.PREFIX, prefix));
     }
 
     /**
-     * Sets a player's suffix (not implemented - read-only).
+     * Sets a player's suffix.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the value to (can be null)
      * @param player the player name
-     * @param suffix the suffix
+     * @param suffix the suffix, or null or empty to clear it
      */
     @Override
     public void setPlayerSuffix(String world, String player, String suffix) {
-        // No-op: Read-only implementation
+        queuePlayerWrite(world, player, SUFFIX_SLOT, suffix, chatMetaMutation(world, ChatMetaType.SUFFIX, suffix));
     }
 
     /**
-     * Returns a group's prefix (not implemented).
+     * Returns a group's prefix.
      * 
-     * @param world the world
+     * @param world the world to resolve the prefix in (can be null)
      * @param group the group name
-     * @return always empty string since not implemented
+     * @return the group's prefix or empty string if not found
      */
     @Override
     public String getGroupPrefix(String world, String group) {
-        return "";
+        return groupChatMeta(world, group, PREFIX_SLOT);
     }
 
     /**
-     * Returns a group's suffix (not implemented).
+     * Returns a group's suffix.
      * 
-     * @param world the world
+     * @param world the world to resolve the suffix in (can be null)
      * @param group the group name
-     * @return always empty string since not implemented
+     * @return the group's suffix or empty string if not found
      */
     @Override
     public String getGroupSuffix(String world, String group) {
-        return "";
+        return groupChatMeta(world, group, SUFFIX_SLOT);
     }
 
     /**
-     * Sets a group's prefix (not implemented - read-only).
+     * Sets a group's prefix.
      * 
-     * @param world the world
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
+     * 
+     * @param world the world to scope the value to (can be null)
      * @param group the group name
-     * @param prefix the prefix
+     * @param prefix the prefix, or null or empty to clear it
      */
     @Override
     public void setGroupPrefix(String world, String group, String prefix) {
-        // No-op: Read-only implementation
+        queueGroupWrite(world, group, PREFIX_SLOT, prefix, chatMetaMutation(world, ChatMetaType.PREFIX, prefix));
     }
 
     /**
-     * Sets a group's suffix (not implemented - read-only).
+     * Sets a group's suffix.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the value to (can be null)
      * @param group the group name
-     * @param suffix the suffix
+     * @param suffix the suffix, or null or empty to clear it
      */
     @Override
     public void setGroupSuffix(String world, String group, String suffix) {
-        // No-op: Read-only implementation
+        queueGroupWrite(world, group, SUFFIX_SLOT, suffix, chatMetaMutation(world, ChatMetaType.SUFFIX, suffix));
     }
 
     /**
-     * Returns string information of a group (not implemented).
+     * Returns string information of a group from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param group the group name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set
      */
     @Override
     public String getGroupInfoString(String world, String group, String node, String defaultValue) {
-        return defaultValue;
+        return groupMeta(world, group, node).asString(defaultValue);
     }
 
     /**
-     * Sets string information of a group (not implemented - read-only).
+     * Sets string information of a group.
      * 
-     * @param world the world
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
+     * 
+     * @param world the world to scope the value to (can be null)
      * @param group the group name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setGroupInfoString(String world, String group, String node, String value) {
-        // No-op: Read-only implementation
+        queueGroupMeta(world, group, node, value);
     }
 
     /**
-     * Returns integer information of a group (not implemented).
+     * Returns integer information of a group from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param group the group name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set or not a valid integer
      */
     @Override
     public int getGroupInfoInteger(String world, String group, String node, int defaultValue) {
-        return defaultValue;
+        return groupMeta(world, group, node).asInt(defaultValue);
     }
 
     /**
-     * Sets integer information of a group (not implemented - read-only).
+     * Sets integer information of a group.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the value to (can be null)
      * @param group the group name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setGroupInfoInteger(String world, String group, String node, int value) {
-        // No-op: Read-only implementation
+        queueGroupMeta(world, group, node, String.valueOf(value));
     }
 
     /**
-     * Returns double information of a group (not implemented).
+     * Returns double information of a group from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param group the group name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set or not a valid double
      */
     @Override
     public double getGroupInfoDouble(String world, String group, String node, double defaultValue) {
-        return defaultValue;
+        return groupMeta(world, group, node).asDouble(defaultValue);
     }
 
     /**
-     * Sets double information of a group (not implemented - read-only).
+     * Sets double information of a group.
      * 
-     * @param world the world
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
+     * 
+     * @param world the world to scope the value to (can be null)
      * @param group the group name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setGroupInfoDouble(String world, String group, String node, double value) {
-        // No-op: Read-only implementation
+        queueGroupMeta(world, group, node, String.valueOf(value));
     }
 
     /**
-     * Returns boolean information of a group (not implemented).
+     * Returns boolean information of a group from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param group the group name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set or not a valid boolean
      */
     @Override
     public boolean getGroupInfoBoolean(String world, String group, String node, boolean defaultValue) {
-        return defaultValue;
+        return groupMeta(world, group, node).asBoolean(defaultValue);
     }
 
     /**
-     * Sets boolean information of a group (not implemented - read-only).
+     * Sets boolean information of a group.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the value to (can be null)
      * @param group the group name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setGroupInfoBoolean(String world, String group, String node, boolean value) {
-        // No-op: Read-only implementation
+        queueGroupMeta(world, group, node, String.valueOf(value));
     }
 
     /**
-     * Returns string information of a player (not implemented).
+     * Returns string information of a player from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set
      */
     @Override
     public String getPlayerInfoString(String world, String playerName, String node, String defaultValue) {
-        return defaultValue;
+        return playerMeta(world, playerName, node).asString(defaultValue);
     }
 
     /**
-     * Sets string information of a player (not implemented - read-only).
+     * Sets string information of a player.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the value to (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setPlayerInfoString(String world, String playerName, String node, String value) {
-        // No-op: Read-only implementation
+        queuePlayerMeta(world, playerName, node, value);
     }
 
     /**
-     * Returns integer information of a player (not implemented).
+     * Returns integer information of a player from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set or not a valid integer
      */
     @Override
     public int getPlayerInfoInteger(String world, String playerName, String node, int defaultValue) {
-        return defaultValue;
+        return playerMeta(world, playerName, node).asInt(defaultValue);
     }
 
     /**
-     * Sets integer information of a player (not implemented - read-only).
+     * Sets integer information of a player.
      * 
-     * @param world the world
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
+     * 
+     * @param world the world to scope the value to (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setPlayerInfoInteger(String world, String playerName, String node, int value) {
-        // No-op: Read-only implementation
+        queuePlayerMeta(world, playerName, node, String.valueOf(value));
     }
 
     /**
-     * Returns double information of a player (not implemented).
+     * Returns double information of a player from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set or not a valid double
      */
     @Override
     public double getPlayerInfoDouble(String world, String playerName, String node, double defaultValue) {
-        return defaultValue;
+        return playerMeta(world, playerName, node).asDouble(defaultValue);
     }
 
     /**
-     * Sets double information of a player (not implemented - read-only).
+     * Sets double information of a player.
+     * 
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the value to (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setPlayerInfoDouble(String world, String playerName, String node, double value) {
-        // No-op: Read-only implementation
+        queuePlayerMeta(world, playerName, node, String.valueOf(value));
     }
 
     /**
-     * Returns boolean information of a player (not implemented).
+     * Returns boolean information of a player from its cached meta.
      * 
-     * @param world the world
+     * @param world the world to resolve the meta in (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param defaultValue the default value
-     * @return always the default value since not implemented
+     * @return the meta value, or the default value if not set or not a valid boolean
      */
     @Override
     public boolean getPlayerInfoBoolean(String world, String playerName, String node, boolean defaultValue) {
-        return defaultValue;
+        return playerMeta(world, playerName, node).asBoolean(defaultValue);
     }
 
     /**
-     * Sets boolean information of a player (not implemented - read-only).
+     * Sets boolean information of a player.
      * 
-     * @param world the world
+     * <p>The write is queued and saved off the main thread; reads see the
+     * new value immediately.</p>
+     * 
+     * @param world the world to scope the value to (can be null)
      * @param playerName the player name
      * @param node the information node
      * @param value the value
      */
     @Override
     public void setPlayerInfoBoolean(String world, String playerName, String node, boolean value) {
-        // No-op: Read-only implementation
+        queuePlayerMeta(world, playerName, node, String.valueOf(value));
+    }
+
+    /**
+     * Queues a meta write for a player.
+     * 
+     * @param world the world to scope the value to (can be null)
+     * @param playerName the player name
+     * @param node the meta key
+     * @param value the value, or null to remove the key
+     */
+    private void queuePlayerMeta(String world, String playerName, String node, String value) {
+        if (node != null) {
+            queuePlayerWrite(world, playerName, META_SLOT_PREFIX + node, value, metaMutation(world, node, value));
+        }
+    }
+
+    /**
+     * Queues a meta write for a group.
+     * 
+     * @param world the world to scope the value to (can be null)
+     * @param group the group name
+     * @param node the meta key
+     * @param value the value, or null to remove the key
+     */
+    private void queueGroupMeta(String world, String group, String node, String value) {
+        if (node != null) {
+            queueGroupWrite(world, group, META_SLOT_PREFIX + node, value, metaMutation(world, node, value));
+        }
+    }
+
+    /**
+     * Records a player write in the overlay and queues it for LuckPerms.
+     * 
+     * <p>Writes to the same slot within the queue's flush window collapse to
+     * the last one, and all of a player's pending writes are saved together.</p>
+     * 
+     * @param world the world the value is scoped to (can be null)
+     * @param playerName the player name
+     * @param slot the written slot
+     * @param value the value, or null if the slot is being cleared
+     * @param mutation the mutation to apply to the user
+     */
+    private void queuePlayerWrite(String world, String playerName, String slot, String value,
+            Consumer<PermissionHolder> mutation) {
+        if (playerName == null || luckPerms == null) {
+            return;
+        }
+        
+        UUID uniqueId = permissionProvider.getUUID(playerName);
+        if (uniqueId == null) {
+            log.warn("[VaultLite] ⚠ Jogador desconhecido, alteração de meta ignorada: {}", playerName);
+            return;
+        }
+        
+        PendingOverlay.Change<MetaValue> change = userOverlay.put(uniqueId, world, slot, MetaValue.of(value));
+        permissionProvider.getMutationQueue().submitUser(uniqueId, mutationKey(world, slot), mutation)
+                .whenComplete((ignored, error) -> {
+                    userOverlay.remove(uniqueId, world, slot, change);
+                    userMetaCache.invalidate(uniqueId);
+                });
+    }
+
+    /**
+     * Records a group write in the overlay and queues it for LuckPerms.
+     * 
+     * @param world the world the value is scoped to (can be null)
+     * @param group the group name
+     * @param slot the written slot
+     * @param value the value, or null if the slot is being cleared
+     * @param mutation the mutation to apply to the group
+     */
+    private void queueGroupWrite(String world, String group, String slot, String value,
+            Consumer<PermissionHolder> mutation) {
+        if (group == null || luckPerms == null || luckPerms.getGroupManager().getGroup(group) == null) {
+            return;
+        }
+        
+        String groupName = group.toLowerCase(Locale.ROOT);
+        PendingOverlay.Change<MetaValue> change = groupOverlay.put(groupName, world, slot, MetaValue.of(value));
+        permissionProvider.getMutationQueue().submitGroup(groupName, mutationKey(world, slot), mutation)
+                .whenComplete((ignored, error) -> {
+                    groupOverlay.remove(groupName, world, slot, change);
+                    invalidateInheritors();
+                });
+    }
+
+    /**
+     * Builds the mutation replacing a prefix or suffix in a world.
+     * 
+     * <p>Existing prefixes or suffixes in the same context are cleared. The
+     * new one must outrank the ones resolved from inherited groups and the
+     * holder's own ones that also apply in that context, so it is the one
+     * LuckPerms resolves. The holder's own values are excluded from the
+     * resolved meta, which still holds them until LuckPerms recalculates, so
+     * the priority of a replaced node is reused whenever it already wins and
+     * repeated writes never climb. A null or empty value only clears.</p>
+     * 
+     * @param world the world the value is scoped to (can be null)
+     * @param type the prefix or suffix type
+     * @param value the value (can be null)
+     * @return the mutation to queue
+     */
+    private Consumer<PermissionHolder> chatMetaMutation(String world, ChatMetaType type, String value) {
+        ImmutableContextSet context = contextOf(world);
+        
+        return holder -> {
+            Collection<? extends ChatMetaNode<?, ?>> own = holder.getNodes(type.nodeType());
+            holder.data().clear(context, type.nodeType()::matches);
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            
+            QueryOptions options = permissionProvider.getWorldQueryOptions().forWorld(world);
+            CachedMetaData resolved = holder.getCachedData().getMetaData(options);
+            Map<Integer, String> values = type == ChatMetaType.PREFIX ? resolved.getPrefixes() : resolved.getSuffixes();
+            int ceiling = values.entrySet().stream()
+                    .filter(entry -> own.stream().noneMatch(node -> node.getPriority() == entry.getKey()
+                            && node.getMetaValue().equals(entry.getValue())))
+                    .mapToInt(Map.Entry::getKey)
+                    .max().orElse(0);
+            int replaced = Integer.MIN_VALUE;
+            for (ChatMetaNode<?, ?> node : own) {
+                if (node.getContexts().equals(context)) {
+                    replaced = Math.max(replaced, node.getPriority());
+                } else if (node.getContexts().isSatisfiedBy(context)) {
+                    ceiling = Math.max(ceiling, node.getPriority());
+                }
+            }
+            
+            int priority = replaced > ceiling ? replaced : ceiling + CHAT_META_PRIORITY_STEP;
+            holder.data().add(type.builder(value, priority).context(context).build());
+        };
+    }
+
+    /**
+     * Builds the mutation replacing a meta value in a world.
+     * 
+     * @param world the world the value is scoped to (can be null)
+     * @param key the meta key
+     * @param value the value, or null to only remove the key
+     * @return the mutation to queue
+     */
+    private static Consumer<PermissionHolder> metaMutation(String world, String key, String value) {
+        ImmutableContextSet context = contextOf(world);
+        
+        return holder -> {
+            holder.data().clear(context, NodeType.META.predicate(node -> node.getMetaKey().equalsIgnoreCase(key)));
+            if (value != null) {
+                holder.data().add(MetaNode.builder(key, value).context(context).build());
+            }
+        };
+    }
+
+    /**
+     * Returns the context set of a world.
+     * 
+     * @param world the world (can be null)
+     * @return the world context, or the empty set for all worlds
+     */
+    private static ImmutableContextSet contextOf(String world) {
+        return world == null
+                ? ImmutableContextSet.empty()
+                : ImmutableContextSet.of(DefaultContextKeys.WORLD_KEY, world);
+    }
+
+    /**
+     * Returns the coalescing key of a chat write.
+     * 
+     * <p>Keys start with {@code #} so they never collide with the permission
+     * node changes queued for the same holder.</p>
+     * 
+     * @param world the world the value is scoped to (can be null)
+     * @param slot the written slot
+     * @return the key under which later writes of the same slot replace earlier ones
+     */
+    private static String mutationKey(String world, String slot) {
+        return world == null ? '#' + slot : world + "|#" + slot;
+    }
+
+    /**
+     * Bukkit listener that keeps the meta cache in sync with the server.
+     */
+    public class ChatServerListener implements Listener {
+
+        /**
+         * Drops the cached meta of a player on quit.
+         * 
+         * @param event the quit event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerQuit(PlayerQuitEvent event) {
+            userMetaCache.invalidate(event.getPlayer().getUniqueId());
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package net.milkbowl.vault.chat.plugins;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-holder cache of resolved chat metadata.
+ *
+ * <p>Holds one {@link MetaSnapshot} per holder and world, so repeated prefix,
+ * suffix and meta reads are served from memory. Users are keyed by UUID and
+ * groups by name; entries are dropped when LuckPerms recalculates the holder.</p>
+ *
+ * @param <K> the holder key type
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MetaCache<K> {
+
+    /**
+     * Snapshot tables indexed by holder key.
+     */
+    private final Map<K, HolderSnapshots> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the snapshot table of a holder, creating it if needed.
+     *
+     * <p>Callers must read and write through the returned table so a snapshot
+     * built before an invalidation never replaces the fresh one.</p>
+     *
+     * @param holder the holder key
+     * @return the holder's snapshot table
+     */
+    public HolderSnapshots forHolder(K holder) {
+        HolderSnapshots holderSnapshots = snapshots.get(holder);
+        return holderSnapshots != null ? holderSnapshots : snapshots.computeIfAbsent(holder, key -> new HolderSnapshots());
+    }
+
+    /**
+     * Drops the cached snapshots of a holder.
+     *
+     * @param holder the holder key
+     */
+    public void invalidate(K holder) {
+        if (holder != null) {
+            snapshots.remove(holder);
+        }
+    }
+
+    /**
+     * Drops the cached snapshots of every holder.
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+    /**
+     * Cached snapshots of a single holder, per world.
+     */
+    public static final class HolderSnapshots {
+
+        /**
+         * Snapshot resolved in the default context.
+         */
+        private volatile MetaSnapshot global;
+
+        /**
+         * Snapshots resolved in a world context, indexed by world name.
+         */
+        private final Map<String, MetaSnapshot> worlds = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the cached snapshot for a world.
+         *
+         * @param world the world name, or null for the default context
+         * @return the snapshot or null if not resolved yet
+         */
+        public MetaSnapshot get(String world) {
+            return world == null ? global : worlds.get(world);
+        }
+
+        /**
+         * Stores the resolved snapshot for a world.
+         *
+         * @param world the world name, or null for the default context
+         * @param snapshot the resolved snapshot
+         */
+        public void put(String world, MetaSnapshot snapshot) {
+            if (world == null) {
+                global = snapshot;
+            } else {
+                worlds.put(world, snapshot);
+            }
+        }
+    }
+}
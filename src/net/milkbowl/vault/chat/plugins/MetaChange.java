@@ -0,0 +1,47 @@
+package net.milkbowl.vault.chat.plugins;
+
+import java.util.UUID;
+
+/**
+ * A change of a player's prefix, suffix, primary group or meta value.
+ *
+ * <p>Delivered by {@link MetaChangeNotifier} on the server thread, at most
+ * once per player, type and key per tick.</p>
+ *
+ * @param uniqueId the player UUID
+ * @param type what changed
+ * @param key the meta key for {@link Type#META} changes, null otherwise
+ * @param oldValue the previous value, or null if it was not set
+ * @param newValue the new value, or null if it is no longer set
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record MetaChange(UUID uniqueId, Type type, String key, String oldValue, String newValue) {
+
+    /**
+     * The kind of value that changed.
+     */
+    public enum Type {
+
+        /**
+         * The player's prefix.
+         */
+        PREFIX,
+
+        /**
+         * The player's suffix.
+         */
+        SUFFIX,
+
+        /**
+         * The player's primary group.
+         */
+        PRIMARY_GROUP,
+
+        /**
+         * A meta value, identified by {@link MetaChange#key()}.
+         */
+        META
+    }
+}
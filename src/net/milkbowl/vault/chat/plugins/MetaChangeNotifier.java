@@ -0,0 +1,399 @@
+package net.milkbowl.vault.chat.plugins;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.cacheddata.CachedMetaData;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.group.Group;
+import net.luckperms.api.model.user.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes prefix, suffix, primary group and meta changes of online players to subscribers.
+ *
+ * <p>LuckPerms recalculation events and world changes only mark a player as
+ * dirty. Group changes reach members without a user event, so they mark the
+ * group instead, and every tracked player inheriting it is marked on the
+ * next flush. Once per tick the dirty players are re-resolved in their current
+ * context, diffed against the last delivered state and each actual change is
+ * delivered as a {@link MetaChange}, so bursts of recalculations collapse
+ * into a single notification. Tab, scoreboard and nameplate plugins can
+ * subscribe instead of polling the chat getters.</p>
+ *
+ * <pre>{@code
+ * MetaChangeNotifier notifier = Bukkit.getServicesManager().load(MetaChangeNotifier.class);
+ * notifier.subscribe(this, change -> nameplates.refresh(change.uniqueId()));
+ * }</pre>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class MetaChangeNotifier {
+
+    /**
+     * Owning plugin, used to schedule flushes.
+     */
+    private final Plugin plugin;
+
+    /**
+     * LuckPerms API instance.
+     */
+    private final LuckPerms luckPerms;
+
+    /**
+     * Registered subscribers.
+     */
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Players marked since the last flush.
+     */
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Lowercase names of the groups changed since the last flush.
+     */
+    private final Set<String> dirtyGroups = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether a flush is already scheduled for the next tick.
+     */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * Last delivered state of each online player, only touched on the server thread.
+     */
+    private final Map<UUID, State> states = new HashMap<>();
+
+    /**
+     * Constructs a new notifier and starts tracking online players.
+     *
+     * @param plugin the plugin instance
+     * @param luckPerms the LuckPerms API instance
+     */
+    public MetaChangeNotifier(Plugin plugin, LuckPerms luckPerms) {
+        this.plugin = plugin;
+        this.luckPerms = luckPerms;
+
+        luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                event -> markDirty(event.getUser().getUniqueId()));
+        luckPerms.getEventBus().subscribe(plugin, GroupDataRecalculateEvent.class,
+                event -> markGroupDirty(event.getGroup().getName()));
+        luckPerms.getEventBus().subscribe(plugin, NodeMutateEvent.class, event -> {
+            if (event.isGroup()) {
+                markGroupDirty(((Group) event.getTarget()).getName());
+            }
+        });
+        Bukkit.getServer().getPluginManager().registerEvents(new NotifierListener(), plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            track(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Subscribes to changes.
+     *
+     * <p>The listener is called on the server thread and removed
+     * automatically when its plugin is disabled.</p>
+     *
+     * @param owner the subscribing plugin
+     * @param listener the listener
+     */
+    public void subscribe(Plugin owner, Consumer<MetaChange> listener) {
+        subscribers.add(new Subscriber(Objects.requireNonNull(owner, "owner"), Objects.requireNonNull(listener, "listener")));
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener passed to {@link #subscribe(Plugin, Consumer)}
+     */
+    public void unsubscribe(Consumer<MetaChange> listener) {
+        subscribers.removeIf(subscriber -> subscriber.listener() == listener);
+    }
+
+    /**
+     * Marks a player for re-resolution on the next tick.
+     *
+     * @param uniqueId the player UUID
+     */
+    private void markDirty(UUID uniqueId) {
+        dirty.add(uniqueId);
+        scheduleFlush();
+    }
+
+    /**
+     * Marks a group so its tracked members are re-resolved on the next tick.
+     *
+     * @param group the group name
+     */
+    private void markGroupDirty(String group) {
+        dirtyGroups.add(group.toLowerCase(Locale.ROOT));
+        scheduleFlush();
+    }
+
+    /**
+     * Schedules a flush on the next tick unless one is already pending.
+     */
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            if (!plugin.isEnabled()) {
+                flushScheduled.set(false);
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    /**
+     * Diffs every dirty player and delivers the changes.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        if (!dirtyGroups.isEmpty()) {
+            markMembers();
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        UUID[] marked = dirty.toArray(new UUID[0]);
+        for (UUID uniqueId : marked) {
+            dirty.remove(uniqueId);
+            State previous = states.get(uniqueId);
+            if (previous == null) {
+                continue;
+            }
+
+            State current = resolve(uniqueId);
+            if (current == null) {
+                continue;
+            }
+
+            states.put(uniqueId, current);
+            if (!subscribers.isEmpty()) {
+                diff(uniqueId, previous, current);
+            }
+        }
+    }
+
+    /**
+     * Marks every tracked player inheriting one of the changed groups.
+     */
+    private void markMembers() {
+        String[] changed = dirtyGroups.toArray(new String[0]);
+        for (String group : changed) {
+            dirtyGroups.remove(group);
+        }
+
+        for (UUID uniqueId : states.keySet()) {
+            User user = luckPerms.getUserManager().getUser(uniqueId);
+            if (user == null) {
+                continue;
+            }
+
+            for (Group inherited : user.getInheritedGroups(user.getQueryOptions())) {
+                if (contains(changed, inherited.getName())) {
+                    dirty.add(uniqueId);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a group name is among the changed groups.
+     *
+     * @param changed the lowercase names of the changed groups
+     * @param group the group name
+     * @return {@code true} if the group changed
+     */
+    private static boolean contains(String[] changed, String group) {
+        for (String name : changed) {
+            if (name.equalsIgnoreCase(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delivers every difference between two states.
+     *
+     * @param uniqueId the player UUID
+     * @param previous the last delivered state
+     * @param current the freshly resolved state
+     */
+    private void diff(UUID uniqueId, State previous, State current) {
+        if (!Objects.equals(previous.prefix(), current.prefix())) {
+            deliver(new MetaChange(uniqueId, MetaChange.Type.PREFIX, null, previous.prefix(), current.prefix()));
+        }
+        if (!Objects.equals(previous.suffix(), current.suffix())) {
+            deliver(new MetaChange(uniqueId, MetaChange.Type.SUFFIX, null, previous.suffix(), current.suffix()));
+        }
+        if (!Objects.equals(previous.primaryGroup(), current.primaryGroup())) {
+            deliver(new MetaChange(uniqueId, MetaChange.Type.PRIMARY_GROUP, null,
+                    previous.primaryGroup(), current.primaryGroup()));
+        }
+        if (previous.meta().equals(current.meta())) {
+            return;
+        }
+
+        for (Map.Entry<String, String> entry : current.meta().entrySet()) {
+            String oldValue = previous.meta().get(entry.getKey());
+            if (!entry.getValue().equals(oldValue)) {
+                deliver(new MetaChange(uniqueId, MetaChange.Type.META, entry.getKey(), oldValue, entry.getValue()));
+            }
+        }
+        for (Map.Entry<String, String> entry : previous.meta().entrySet()) {
+            if (!current.meta().containsKey(entry.getKey())) {
+                deliver(new MetaChange(uniqueId, MetaChange.Type.META, entry.getKey(), entry.getValue(), null));
+            }
+        }
+    }
+
+    /**
+     * Delivers a change to every subscriber, isolating their failures.
+     *
+     * @param change the change
+     */
+    private void deliver(MetaChange change) {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.listener().accept(change);
+            } catch (RuntimeException exception) {
+                log.warn("[VaultLite] ⚠ Erro no listener de mudanças de {}: {}",
+                        subscriber.owner().getName(), exception.getMessage(), exception);
+            }
+        }
+    }
+
+    /**
+     * Starts tracking a player with its current state as the baseline.
+     *
+     * @param uniqueId the player UUID
+     */
+    private void track(UUID uniqueId) {
+        State state = resolve(uniqueId);
+        if (state != null) {
+            states.put(uniqueId, state);
+        }
+    }
+
+    /**
+     * Resolves the current state of a loaded user in its active context.
+     *
+     * @param uniqueId the user UUID
+     * @return the state, or null if the user is not loaded
+     */
+    private State resolve(UUID uniqueId) {
+        User user = luckPerms.getUserManager().getUser(uniqueId);
+        if (user == null) {
+            return null;
+        }
+
+        CachedMetaData metaData = user.getCachedData().getMetaData();
+        Map<String, String> meta = new HashMap<>();
+        for (String key : metaData.getMeta().keySet()) {
+            String value = metaData.getMetaValue(key);
+            if (value != null) {
+                meta.put(key, value);
+            }
+        }
+        return new State(metaData.getPrefix(), metaData.getSuffix(), user.getPrimaryGroup(), meta);
+    }
+
+    /**
+     * Resolved values of a player at one point in time.
+     *
+     * @param prefix the prefix (can be null)
+     * @param suffix the suffix (can be null)
+     * @param primaryGroup the primary group
+     * @param meta the resolved meta values by key
+     */
+    private record State(String prefix, String suffix, String primaryGroup, Map<String, String> meta) {
+    }
+
+    /**
+     * A registered listener and the plugin owning it.
+     *
+     * @param owner the subscribing plugin
+     * @param listener the listener
+     */
+    private record Subscriber(Plugin owner, Consumer<MetaChange> listener) {
+    }
+
+    /**
+     * Bukkit listener that tracks online players and subscriber lifecycles.
+     */
+    public class NotifierListener implements Listener {
+
+        /**
+         * Records the baseline state of a joining player.
+         *
+         * @param event the join event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerJoin(PlayerJoinEvent event) {
+            track(event.getPlayer().getUniqueId());
+        }
+
+        /**
+         * Stops tracking a player on quit.
+         *
+         * @param event the quit event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerQuit(PlayerQuitEvent event) {
+            states.remove(event.getPlayer().getUniqueId());
+            dirty.remove(event.getPlayer().getUniqueId());
+        }
+
+        /**
+         * Re-resolves a player whose world context changed.
+         *
+         * @param event the world change event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onWorldChange(PlayerChangedWorldEvent event) {
+            markDirty(event.getPlayer().getUniqueId());
+        }
+
+        /**
+         * Drops the subscriptions of a disabled plugin.
+         *
+         * @param event the plugin disable event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(PluginDisableEvent event) {
+            subscribers.removeIf(subscriber -> subscriber.owner().equals(event.getPlugin()));
+        }
+    }
+}
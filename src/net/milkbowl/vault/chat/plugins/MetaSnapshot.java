@@ -0,0 +1,164 @@
+package net.milkbowl.vault.chat.plugins;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.luckperms.api.cacheddata.CachedMetaData;
+
+/**
+ * Immutable snapshot of a holder's resolved chat metadata.
+ *
+ * <p>Keeps the raw prefix and suffix together with their {@link Component}
+ * forms, parsed once from the legacy {@code &} color format when the
+ * snapshot is built. Chat, tab and nameplate renderers can reuse the
+ * components instead of parsing the same strings on every refresh.</p>
+ *
+ * <p>Meta keys are looked up lazily and kept as {@link MetaValue}s, already
+ * parsed into every info type.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MetaSnapshot {
+
+    /**
+     * Serializer for LuckPerms legacy color codes, including {@code &#rrggbb} hex colors.
+     */
+    private static final LegacyComponentSerializer LEGACY_SERIALIZER = LegacyComponentSerializer.builder()
+            .character(LegacyComponentSerializer.AMPERSAND_CHAR)
+            .hexColors()
+            .build();
+
+    /**
+     * Raw prefix, never null.
+     */
+    private final String prefix;
+
+    /**
+     * Raw suffix, never null.
+     */
+    private final String suffix;
+
+    /**
+     * Parsed prefix.
+     */
+    private final Component prefixComponent;
+
+    /**
+     * Parsed suffix.
+     */
+    private final Component suffixComponent;
+
+    /**
+     * Source of meta values, queried the first time each key is read.
+     */
+    private final CachedMetaData metaData;
+
+    /**
+     * Parsed meta values indexed by key.
+     */
+    private final Map<String, MetaValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new snapshot.
+     *
+     * @param metaData the holder's cached meta data
+     * @param prefix the raw prefix (can be null)
+     * @param suffix the raw suffix (can be null)
+     */
+    private MetaSnapshot(CachedMetaData metaData, String prefix, String suffix) {
+        this.metaData = metaData;
+        this.prefix = prefix == null ? "" : prefix;
+        this.suffix = suffix == null ? "" : suffix;
+        this.prefixComponent = parse(this.prefix);
+        this.suffixComponent = parse(this.suffix);
+    }
+
+    /**
+     * Builds a snapshot from LuckPerms cached meta data.
+     *
+     * @param metaData the holder's cached meta data
+     * @return the snapshot
+     */
+    public static MetaSnapshot of(CachedMetaData metaData) {
+        return new MetaSnapshot(metaData, metaData.getPrefix(), metaData.getSuffix());
+    }
+
+    /**
+     * Returns the raw prefix.
+     *
+     * @return the prefix, or an empty string if none
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the raw suffix.
+     *
+     * @return the suffix, or an empty string if none
+     */
+    public String suffix() {
+        return suffix;
+    }
+
+    /**
+     * Returns the parsed prefix.
+     *
+     * @return the prefix component, or {@link Component#empty()} if none
+     */
+    public Component prefixComponent() {
+        return prefixComponent;
+    }
+
+    /**
+     * Returns the parsed suffix.
+     *
+     * @return the suffix component, or {@link Component#empty()} if none
+     */
+    public Component suffixComponent() {
+        return suffixComponent;
+    }
+
+    /**
+     * Returns a meta value, parsing it on first use.
+     *
+     * @param key the meta key
+     * @return the parsed value, or an absent value if the key is not set
+     */
+    public MetaValue meta(String key) {
+        if (key == null) {
+            return MetaValue.ABSENT;
+        }
+
+        MetaValue value = values.get(key);
+        if (value == null) {
+            value = MetaValue.of(metaData.getMetaValue(key));
+            values.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Parses a legacy formatted string.
+     *
+     * @param legacy the legacy string
+     * @return the component
+     */
+    static Component parse(String legacy) {
+        return legacy.isEmpty() ? Component.empty() : LEGACY_SERIALIZER.deserialize(legacy);
+    }
+
+    /**
+     * Serializes a component to the legacy {@code &} color format.
+     *
+     * @param component the component
+     * @return the legacy string
+     */
+    static String serialize(Component component) {
+        return LEGACY_SERIALIZER.serialize(component);
+    }
+}
@@ -0,0 +1,136 @@
+package net.milkbowl.vault.chat.plugins;
+
+/**
+ * A meta value parsed once into every Vault info type.
+ *
+ * <p>Built the first time a key is read from a {@link MetaSnapshot}, so
+ * repeated {@code getPlayerInfoInteger} or {@code getPlayerInfoDouble} calls
+ * return the stored primitive instead of parsing the raw string again.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MetaValue {
+
+    /**
+     * Value of a key that is not set.
+     */
+    static final MetaValue ABSENT = new MetaValue(null);
+
+    /**
+     * Raw value, or null if the key is not set.
+     */
+    private final String raw;
+
+    /**
+     * Whether the raw value is a valid integer.
+     */
+    private final boolean integer;
+
+    /**
+     * Parsed integer value.
+     */
+    private final int intValue;
+
+    /**
+     * Whether the raw value is a valid decimal.
+     */
+    private final boolean decimal;
+
+    /**
+     * Parsed decimal value.
+     */
+    private final double doubleValue;
+
+    /**
+     * Parsed boolean value: {@code 1} for true, {@code 0} for false, {@code -1} if not a boolean.
+     */
+    private final byte booleanValue;
+
+    /**
+     * Constructs a new value, parsing it into every type.
+     *
+     * @param raw the raw value (can be null)
+     */
+    private MetaValue(String raw) {
+        this.raw = raw;
+
+        String trimmed = raw == null ? "" : raw.trim();
+        int parsedInt = 0;
+        boolean validInt = false;
+        double parsedDouble = 0;
+        boolean validDouble = false;
+        if (!trimmed.isEmpty()) {
+            try {
+                parsedInt = Integer.parseInt(trimmed);
+                validInt = true;
+            } catch (NumberFormatException ignored) {
+                // Not an integer
+            }
+            try {
+                parsedDouble = Double.parseDouble(trimmed);
+                validDouble = true;
+            } catch (NumberFormatException ignored) {
+                // Not a decimal
+            }
+        }
+
+        this.integer = validInt;
+        this.intValue = parsedInt;
+        this.decimal = validDouble;
+        this.doubleValue = parsedDouble;
+        this.booleanValue = "true".equalsIgnoreCase(trimmed) ? (byte) 1
+                : "false".equalsIgnoreCase(trimmed) ? (byte) 0 : (byte) -1;
+    }
+
+    /**
+     * Parses a raw meta value.
+     *
+     * @param raw the raw value (can be null)
+     * @return the parsed value
+     */
+    static MetaValue of(String raw) {
+        return raw == null ? ABSENT : new MetaValue(raw);
+    }
+
+    /**
+     * Returns the raw value.
+     *
+     * @param defaultValue the value to return if the key is not set
+     * @return the raw value or the default
+     */
+    public String asString(String defaultValue) {
+        return raw == null ? defaultValue : raw;
+    }
+
+    /**
+     * Returns the value as an integer.
+     *
+     * @param defaultValue the value to return if the key is not set or not an integer
+     * @return the integer value or the default
+     */
+    public int asInt(int defaultValue) {
+        return integer ? intValue : defaultValue;
+    }
+
+    /**
+     * Returns the value as a decimal.
+     *
+     * @param defaultValue the value to return if the key is not set or not a number
+     * @return the decimal value or the default
+     */
+    public double asDouble(double defaultValue) {
+        return decimal ? doubleValue : defaultValue;
+    }
+
+    /**
+     * Returns the value as a boolean.
+     *
+     * @param defaultValue the value to return if the key is not set or not {@code true}/{@code false}
+     * @return the boolean value or the default
+     */
+    public boolean asBoolean(boolean defaultValue) {
+        return booleanValue < 0 ? defaultValue : booleanValue == 1;
+    }
+}
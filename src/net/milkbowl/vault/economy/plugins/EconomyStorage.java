@@ -0,0 +1,66 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Persistence backend of the built-in economy.
+ *
+ * <p>Balances are exchanged in minor units. {@link Economy_VaultLite} loads
+ * every account once at startup; afterwards an {@link EconomyStorageWriter}
+ * calls {@link #upsert(Map)} from a single background thread with batches
+ * of changed accounts, so implementations never see concurrent writes and
+ * never run on the server thread after startup.</p>
+ *
+ * <p>Shipped backends:</p>
+ * <ul>
+ *   <li>{@link FlatFileEconomyStorage} - binary journal plus snapshot, for small servers</li>
+ *   <li>{@link JdbcEconomyStorage} - embedded SQLite or H2 database</li>
+ * </ul>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface EconomyStorage {
+
+    /**
+     * Returns the backend name, used in logs.
+     *
+     * @return the backend name
+     */
+    String getName();
+
+    /**
+     * Loads every stored balance.
+     *
+     * @return the balances in minor units, indexed by player UUID
+     * @throws IOException if the stored data cannot be read
+     */
+    Map<UUID, Long> load() throws IOException;
+
+    /**
+     * Streams every stored balance without building a map.
+     *
+     * @param visitor receives each player UUID and balance in minor units
+     * @throws IOException if the stored data cannot be read
+     */
+    void forEach(ObjLongConsumer<UUID> visitor) throws IOException;
+
+    /**
+     * Durably stores a batch of balances, inserting or replacing each account.
+     *
+     * @param balances the balances in minor units, indexed by player UUID
+     * @throws IOException if the batch cannot be stored; none of it is considered saved
+     */
+    void upsert(Map<UUID, Long> balances) throws IOException;
+
+    /**
+     * Releases the backend's files or connections.
+     *
+     * @throws IOException if the backend cannot be closed cleanly
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,144 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single background writer that group-commits changed balances to an {@link EconomyStorage}.
+ *
+ * <p>Transactions only mark their account dirty. Every flush interval the
+ * writer thread drains the dirty set, reads the current balance of each
+ * account and hands the whole batch to {@link EconomyStorage#upsert(Map)}.
+ * Repeated changes to one account within an interval collapse into one
+ * write. A failed batch is marked dirty again and retried on the next
+ * interval.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class EconomyStorageWriter {
+
+    /**
+     * Backend receiving the batches.
+     */
+    private final EconomyStorage storage;
+
+    /**
+     * Live account balances.
+     */
+    private final Map<UUID, AtomicLong> accounts;
+
+    /**
+     * Accounts changed since the last batch.
+     */
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Background writer thread.
+     */
+    private final ScheduledExecutorService writer;
+
+    /**
+     * Constructs and starts a new writer.
+     *
+     * @param storage the backend receiving the batches
+     * @param accounts the live account balances
+     * @param flushIntervalMillis the interval between batches, in milliseconds
+     */
+    public EconomyStorageWriter(EconomyStorage storage, Map<UUID, AtomicLong> accounts, long flushIntervalMillis) {
+        this.storage = storage;
+        this.accounts = accounts;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "VaultLite-Economy-Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10L, flushIntervalMillis);
+        writer.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Marks an account as changed.
+     *
+     * @param uniqueId the player UUID
+     */
+    public void markDirty(UUID uniqueId) {
+        dirty.add(uniqueId);
+    }
+
+    /**
+     * Stops the writer thread, stores every pending change and closes the backend.
+     *
+     * <p>Called when the plugin is disabled.</p>
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("[VaultLite] ⚠ Gravação da economia não terminou a tempo");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            flush();
+            storage.close();
+        } catch (IOException exception) {
+            log.error("[VaultLite] ✗ Falha ao salvar a economia ({}): {}", storage.getName(), exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Runs a batch from the writer thread, logging failures.
+     */
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException exception) {
+            log.warn("[VaultLite] ⚠ Falha ao gravar a economia ({}): {}", storage.getName(), exception.getMessage());
+        }
+    }
+
+    /**
+     * Stores the current balance of every dirty account in one batch.
+     *
+     * @throws IOException if the backend rejects the batch
+     */
+    private void flush() throws IOException {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Long> batch = new LinkedHashMap<>();
+        for (UUID uniqueId : dirty.toArray(new UUID[0])) {
+            dirty.remove(uniqueId);
+            AtomicLong account = accounts.get(uniqueId);
+            if (account != null) {
+                batch.put(uniqueId, account.get());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            storage.upsert(batch);
+        } catch (IOException | RuntimeException exception) {
+            dirty.addAll(batch.keySet());
+            throw exception;
+        }
+    }
+}
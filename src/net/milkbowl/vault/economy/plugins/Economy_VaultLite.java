@@ -0,0 +1,898 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.EconomyResponse.ResponseType;
+import net.milkbowl.vault.papi.BalanceLeaderboard;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Built-in VaultLite Economy Provider implementation.
+ *
+ * <p>Balances are stored as {@code long} minor units (cents with the default
+ * two fractional digits) in a UUID-keyed concurrent map. Every account is an
+ * independent {@link AtomicLong} updated with compare-and-set, so deposits,
+ * withdrawals and balance checks never take a shared lock and scale across
+ * the server thread, region threads and async tasks.</p>
+ *
+ * <p>Features:</p>
+ * <ul>
+ *   <li>Fixed-point balances, free of floating point drift</li>
+ *   <li>Lock-free per-account updates with overflow checks</li>
+ *   <li>Single global economy; world arguments are ignored</li>
+ *   <li>Balance leaderboard fed in batches, off the update path</li>
+ *   <li>Pluggable durable storage through an {@link EconomyStorage}, written off the update path</li>
+ *   <li>No bank support</li>
+ * </ul>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class Economy_VaultLite implements Economy {
+
+    /**
+     * Interval between leaderboard flushes, in ticks.
+     */
+    private static final long LEADERBOARD_FLUSH_TICKS = 20L;
+
+    /**
+     * Reused format buffer of each thread.
+     */
+    private static final ThreadLocal<StringBuilder> FORMAT_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    /**
+     * Account balances in minor units, indexed by player UUID.
+     */
+    private final Map<UUID, AtomicLong> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * Accounts changed since the last leaderboard flush.
+     */
+    private final Set<UUID> rankingDirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Ranking updated with changed balances.
+     */
+    private final BalanceLeaderboard leaderboard;
+
+    /**
+     * Number of fractional digits kept in each balance.
+     */
+    private final int fractionalDigits;
+
+    /**
+     * Minor units per major unit, {@code 10^fractionalDigits}.
+     */
+    private final long scale;
+
+    /**
+     * Balance of new accounts, in minor units.
+     */
+    private final long startingBalance;
+
+    /**
+     * Currency name for an amount of exactly one.
+     */
+    private final String currencySingular;
+
+    /**
+     * Currency name for any other amount.
+     */
+    private final String currencyPlural;
+
+    /**
+     * Repeating task flushing the leaderboard, null if not scheduled.
+     */
+    private final BukkitTask leaderboardTask;
+
+    /**
+     * Background writer of changed balances, null for a memory-only economy.
+     */
+    private final EconomyStorageWriter storageWriter;
+
+    /**
+     * Constructs a new instance of the built-in Economy Provider.
+     *
+     * @param plugin the plugin instance
+     * @param config the {@code economy} configuration section (can be null for defaults)
+     * @param leaderboard the balance ranking to keep updated
+     * @param storage the durable storage to load from and write to (can be null)
+     * @throws IllegalStateException if the stored balances cannot be loaded
+     */
+    public Economy_VaultLite(Plugin plugin, ConfigurationSection config, BalanceLeaderboard leaderboard,
+            EconomyStorage storage) {
+        this.leaderboard = leaderboard;
+        this.fractionalDigits = Math.max(0, Math.min(6, config == null ? 2 : config.getInt("fractional-digits", 2)));
+        long unit = 1L;
+        for (int digit = 0; digit < fractionalDigits; digit++) {
+            unit *= 10L;
+        }
+        this.scale = unit;
+        this.startingBalance = Math.max(0L, toMinor(config == null ? 0.0 : config.getDouble("starting-balance", 0.0)));
+        this.currencySingular = config == null ? "Moeda" : config.getString("currency-singular", "Moeda");
+        this.currencyPlural = config == null ? "Moedas" : config.getString("currency-plural", "Moedas");
+
+        if (storage != null) {
+            try {
+                storage.forEach((uniqueId, balance) -> accounts.put(uniqueId, new AtomicLong(balance)));
+            } catch (IOException exception) {
+                throw new IllegalStateException("Não foi possível carregar os saldos da economia", exception);
+            }
+            rankingDirty.addAll(accounts.keySet());
+            this.storageWriter = new EconomyStorageWriter(storage, accounts,
+                    config == null ? 100L : config.getLong("storage.flush-ms", 100L));
+            log.info("[VaultLite] → Economia: {} contas carregadas ({})", accounts.size(), storage.getName());
+        } else {
+            this.storageWriter = null;
+        }
+        this.leaderboardTask = plugin == null ? null
+                : Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flushLeaderboard,
+                        LEADERBOARD_FLUSH_TICKS, LEADERBOARD_FLUSH_TICKS);
+    }
+
+    /**
+     * Returns the economy provider name.
+     *
+     * @return the provider name
+     */
+    @Override
+    public String getName() {
+        return "VaultLite-Economy";
+    }
+
+    /**
+     * Checks if the provider is enabled.
+     *
+     * @return always {@code true}
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Indicates whether banks are supported.
+     *
+     * @return always {@code false}
+     */
+    @Override
+    public boolean hasBankSupport() {
+        return false;
+    }
+
+    /**
+     * Returns the number of fractional digits kept in balances.
+     *
+     * @return the number of fractional digits
+     */
+    @Override
+    public int fractionalDigits() {
+        return fractionalDigits;
+    }
+
+    /**
+     * Formats an amount with thousands separators and the currency name, e.g. {@code 1,234.50 Moedas}.
+     *
+     * @param amount the amount
+     * @return the formatted amount
+     */
+    @Override
+    public String format(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            return amount + " " + currencyPlural;
+        }
+
+        long minor = toMinor(amount);
+        StringBuilder buffer = FORMAT_BUFFER.get();
+        buffer.setLength(0);
+        if (minor < 0) {
+            buffer.append('-');
+        }
+
+        long magnitude = Math.abs(minor);
+        int digitsStart = buffer.length();
+        buffer.append(magnitude / scale);
+        for (int index = buffer.length() - 3; index > digitsStart; index -= 3) {
+            buffer.insert(index, ',');
+        }
+        if (fractionalDigits > 0) {
+            buffer.append('.');
+            long fraction = magnitude % scale;
+            for (long unit = scale / 10; unit > 0; unit /= 10) {
+                buffer.append((char) ('0' + fraction / unit % 10));
+            }
+        }
+        buffer.append(' ').append(minor == scale ? currencySingular : currencyPlural);
+        return buffer.toString();
+    }
+
+    /**
+     * Returns the plural currency name.
+     *
+     * @return the plural currency name
+     */
+    @Override
+    public String currencyNamePlural() {
+        return currencyPlural;
+    }
+
+    /**
+     * Returns the singular currency name.
+     *
+     * @return the singular currency name
+     */
+    @Override
+    public String currencyNameSingular() {
+        return currencySingular;
+    }
+
+    /**
+     * Checks if a player has an account.
+     *
+     * @param playerName the player name
+     * @return {@code true} if the account exists
+     */
+    @Override
+    public boolean hasAccount(String playerName) {
+        UUID uniqueId = uniqueIdOf(playerName);
+        return uniqueId != null && accounts.containsKey(uniqueId);
+    }
+
+    /**
+     * Checks if a player has an account.
+     *
+     * @param player the offline player
+     * @return {@code true} if the account exists
+     */
+    @Override
+    public boolean hasAccount(OfflinePlayer player) {
+        return player != null && accounts.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Checks if a player has an account; the world is ignored.
+     *
+     * @param playerName the player name
+     * @param worldName the world name
+     * @return {@code true} if the account exists
+     */
+    @Override
+    public boolean hasAccount(String playerName, String worldName) {
+        return hasAccount(playerName);
+    }
+
+    /**
+     * Checks if a player has an account; the world is ignored.
+     *
+     * @param player the offline player
+     * @param worldName the world name
+     * @return {@code true} if the account exists
+     */
+    @Override
+    public boolean hasAccount(OfflinePlayer player, String worldName) {
+        return hasAccount(player);
+    }
+
+    /**
+     * Returns a player's balance.
+     *
+     * @param playerName the player name
+     * @return the balance, or {@code 0} if the account does not exist
+     */
+    @Override
+    public double getBalance(String playerName) {
+        return balanceOf(uniqueIdOf(playerName));
+    }
+
+    /**
+     * Returns a player's balance.
+     *
+     * @param player the offline player
+     * @return the balance, or {@code 0} if the account does not exist
+     */
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        return balanceOf(player == null ? null : player.getUniqueId());
+    }
+
+    /**
+     * Returns a player's balance; the world is ignored.
+     *
+     * @param playerName the player name
+     * @param world the world name
+     * @return the balance, or {@code 0} if the account does not exist
+     */
+    @Override
+    public double getBalance(String playerName, String world) {
+        return getBalance(playerName);
+    }
+
+    /**
+     * Returns a player's balance; the world is ignored.
+     *
+     * @param player the offline player
+     * @param world the world name
+     * @return the balance, or {@code 0} if the account does not exist
+     */
+    @Override
+    public double getBalance(OfflinePlayer player, String world) {
+        return getBalance(player);
+    }
+
+    /**
+     * Checks if a player has at least an amount.
+     *
+     * @param playerName the player name
+     * @param amount the amount
+     * @return {@code true} if the balance covers the amount
+     */
+    @Override
+    public boolean has(String playerName, double amount) {
+        return hasMinor(uniqueIdOf(playerName), amount);
+    }
+
+    /**
+     * Checks if a player has at least an amount.
+     *
+     * @param player the offline player
+     * @param amount the amount
+     * @return {@code true} if the balance covers the amount
+     */
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        return hasMinor(player == null ? null : player.getUniqueId(), amount);
+    }
+
+    /**
+     * Checks if a player has at least an amount; the world is ignored.
+     *
+     * @param playerName the player name
+     * @param worldName the world name
+     * @param amount the amount
+     * @return {@code true} if the balance covers the amount
+     */
+    @Override
+    public boolean has(String playerName, String worldName, double amount) {
+        return has(playerName, amount);
+    }
+
+    /**
+     * Checks if a player has at least an amount; the world is ignored.
+     *
+     * @param player the offline player
+     * @param worldName the world name
+     * @param amount the amount
+     * @return {@code true} if the balance covers the amount
+     */
+    @Override
+    public boolean has(OfflinePlayer player, String worldName, double amount) {
+        return has(player, amount);
+    }
+
+    /**
+     * Withdraws an amount from a player.
+     *
+     * @param playerName the player name
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        return withdraw(uniqueIdOf(playerName), amount);
+    }
+
+    /**
+     * Withdraws an amount from a player.
+     *
+     * @param player the offline player
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return withdraw(player == null ? null : player.getUniqueId(), amount);
+    }
+
+    /**
+     * Withdraws an amount from a player; the world is ignored.
+     *
+     * @param playerName the player name
+     * @param worldName the world name
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, String worldName, double amount) {
+        return withdrawPlayer(playerName, amount);
+    }
+
+    /**
+     * Withdraws an amount from a player; the world is ignored.
+     *
+     * @param player the offline player
+     * @param worldName the world name
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, String worldName, double amount) {
+        return withdrawPlayer(player, amount);
+    }
+
+    /**
+     * Deposits an amount to a player, creating the account if needed.
+     *
+     * @param playerName the player name
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        return deposit(uniqueIdOf(playerName), amount);
+    }
+
+    /**
+     * Deposits an amount to a player, creating the account if needed.
+     *
+     * @param player the offline player
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return deposit(player == null ? null : player.getUniqueId(), amount);
+    }
+
+    /**
+     * Deposits an amount to a player; the world is ignored.
+     *
+     * @param playerName the player name
+     * @param worldName the world name
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse depositPlayer(String playerName, String worldName, double amount) {
+        return depositPlayer(playerName, amount);
+    }
+
+    /**
+     * Deposits an amount to a player; the world is ignored.
+     *
+     * @param player the offline player
+     * @param worldName the world name
+     * @param amount the amount
+     * @return the transaction result
+     */
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, String worldName, double amount) {
+        return depositPlayer(player, amount);
+    }
+
+    /**
+     * Creates a bank (not supported).
+     *
+     * @param name the bank name
+     * @param player the owner name
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse createBank(String name, String player) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Creates a bank (not supported).
+     *
+     * @param name the bank name
+     * @param player the owner
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse createBank(String name, OfflinePlayer player) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Deletes a bank (not supported).
+     *
+     * @param name the bank name
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Returns a bank balance (not supported).
+     *
+     * @param name the bank name
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Checks a bank balance (not supported).
+     *
+     * @param name the bank name
+     * @param amount the amount
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Withdraws from a bank (not supported).
+     *
+     * @param name the bank name
+     * @param amount the amount
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Deposits to a bank (not supported).
+     *
+     * @param name the bank name
+     * @param amount the amount
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Checks bank ownership (not supported).
+     *
+     * @param name the bank name
+     * @param playerName the player name
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Checks bank ownership (not supported).
+     *
+     * @param name the bank name
+     * @param player the player
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse isBankOwner(String name, OfflinePlayer player) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Checks bank membership (not supported).
+     *
+     * @param name the bank name
+     * @param playerName the player name
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse isBankMember(String name, String playerName) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Checks bank membership (not supported).
+     *
+     * @param name the bank name
+     * @param player the player
+     * @return a not implemented response
+     */
+    @Override
+    public EconomyResponse isBankMember(String name, OfflinePlayer player) {
+        return banksNotSupported();
+    }
+
+    /**
+     * Returns the banks (not supported).
+     *
+     * @return always an empty list
+     */
+    @Override
+    public List<String> getBanks() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Creates an account with the starting balance.
+     *
+     * @param playerName the player name
+     * @return {@code true} if the account was created, {@code false} if it existed or the player is unknown
+     */
+    @Override
+    public boolean createPlayerAccount(String playerName) {
+        return createAccount(uniqueIdOf(playerName));
+    }
+
+    /**
+     * Creates an account with the starting balance.
+     *
+     * @param player the offline player
+     * @return {@code true} if the account was created, {@code false} if it existed
+     */
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player) {
+        return createAccount(player == null ? null : player.getUniqueId());
+    }
+
+    /**
+     * Creates an account with the starting balance; the world is ignored.
+     *
+     * @param playerName the player name
+     * @param worldName the world name
+     * @return {@code true} if the account was created
+     */
+    @Override
+    public boolean createPlayerAccount(String playerName, String worldName) {
+        return createPlayerAccount(playerName);
+    }
+
+    /**
+     * Creates an account with the starting balance; the world is ignored.
+     *
+     * @param player the offline player
+     * @param worldName the world name
+     * @return {@code true} if the account was created
+     */
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player, String worldName) {
+        return createPlayerAccount(player);
+    }
+
+    /**
+     * Stops the leaderboard task, flushes pending ranking updates and saves every balance.
+     *
+     * <p>Called when the plugin is disabled.</p>
+     */
+    public void shutdown() {
+        if (leaderboardTask != null) {
+            leaderboardTask.cancel();
+        }
+        flushLeaderboard();
+        if (storageWriter != null) {
+            storageWriter.close();
+        }
+    }
+
+    /**
+     * Records a changed account for the leaderboard and the storage.
+     *
+     * @param uniqueId the player UUID
+     */
+    private void changed(UUID uniqueId) {
+        rankingDirty.add(uniqueId);
+        if (storageWriter != null) {
+            storageWriter.markDirty(uniqueId);
+        }
+    }
+
+    /**
+     * Creates an account if it does not exist.
+     *
+     * @param uniqueId the player UUID (can be null)
+     * @return {@code true} if the account was created
+     */
+    private boolean createAccount(UUID uniqueId) {
+        if (uniqueId == null || accounts.putIfAbsent(uniqueId, new AtomicLong(startingBalance)) != null) {
+            return false;
+        }
+
+        changed(uniqueId);
+        return true;
+    }
+
+    /**
+     * Returns the balance of an account.
+     *
+     * @param uniqueId the player UUID (can be null)
+     * @return the balance, or {@code 0} if the account does not exist
+     */
+    private double balanceOf(UUID uniqueId) {
+        AtomicLong account = uniqueId == null ? null : accounts.get(uniqueId);
+        return account == null ? 0.0 : toMajor(account.get());
+    }
+
+    /**
+     * Checks if an account covers an amount.
+     *
+     * @param uniqueId the player UUID (can be null)
+     * @param amount the amount
+     * @return {@code true} if the balance covers the amount
+     */
+    private boolean hasMinor(UUID uniqueId, double amount) {
+        AtomicLong account = uniqueId == null ? null : accounts.get(uniqueId);
+        if (account == null) {
+            return false;
+        }
+        return account.get() >= toMinor(amount);
+    }
+
+    /**
+     * Withdraws an amount with a compare-and-set loop.
+     *
+     * @param uniqueId the player UUID (can be null)
+     * @param amount the amount
+     * @return the transaction result
+     */
+    private EconomyResponse withdraw(UUID uniqueId, double amount) {
+        EconomyResponse invalid = validate(uniqueId, amount);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        AtomicLong account = accounts.get(uniqueId);
+        if (account == null) {
+            return new EconomyResponse(0, 0, ResponseType.FAILURE, "Conta inexistente");
+        }
+
+        long minor = toMinor(amount);
+        while (true) {
+            long current = account.get();
+            if (current < minor) {
+                return new EconomyResponse(0, toMajor(current), ResponseType.FAILURE, "Saldo insuficiente");
+            }
+            if (account.compareAndSet(current, current - minor)) {
+                changed(uniqueId);
+                return new EconomyResponse(toMajor(minor), toMajor(current - minor), ResponseType.SUCCESS, null);
+            }
+        }
+    }
+
+    /**
+     * Deposits an amount with a compare-and-set loop, creating the account if needed.
+     *
+     * @param uniqueId the player UUID (can be null)
+     * @param amount the amount
+     * @return the transaction result
+     */
+    private EconomyResponse deposit(UUID uniqueId, double amount) {
+        EconomyResponse invalid = validate(uniqueId, amount);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        AtomicLong account = accounts.get(uniqueId);
+        if (account == null) {
+            account = accounts.computeIfAbsent(uniqueId, key -> new AtomicLong(startingBalance));
+        }
+
+        long minor = toMinor(amount);
+        while (true) {
+            long current = account.get();
+            long updated = current + minor;
+            if (updated < current) {
+                return new EconomyResponse(0, toMajor(current), ResponseType.FAILURE, "Saldo máximo excedido");
+            }
+            if (account.compareAndSet(current, updated)) {
+                changed(uniqueId);
+                return new EconomyResponse(toMajor(minor), toMajor(updated), ResponseType.SUCCESS, null);
+            }
+        }
+    }
+
+    /**
+     * Validates the target and amount of a transaction.
+     *
+     * @param uniqueId the player UUID (can be null)
+     * @param amount the amount
+     * @return a failure response, or null if the transaction is valid
+     */
+    private EconomyResponse validate(UUID uniqueId, double amount) {
+        if (uniqueId == null) {
+            return new EconomyResponse(0, 0, ResponseType.FAILURE, "Jogador desconhecido");
+        }
+        if (Double.isNaN(amount) || Double.isInfinite(amount) || amount < 0) {
+            return new EconomyResponse(0, balanceOf(uniqueId), ResponseType.FAILURE, "Valor inválido");
+        }
+        if (amount >= (double) Long.MAX_VALUE / scale) {
+            return new EconomyResponse(0, balanceOf(uniqueId), ResponseType.FAILURE, "Valor muito alto");
+        }
+        return null;
+    }
+
+    /**
+     * Pushes the balances changed since the last flush into the leaderboard.
+     * 
+     * <p>Only online players' names are passed along; offline names are
+     * resolved by the leaderboard placeholders when a rank is rendered, so a
+     * flush never builds an {@link OfflinePlayer} per account.</p>
+     */
+    private void flushLeaderboard() {
+        if (rankingDirty.isEmpty()) {
+            return;
+        }
+
+        for (UUID uniqueId : rankingDirty.toArray(new UUID[0])) {
+            rankingDirty.remove(uniqueId);
+            AtomicLong account = accounts.get(uniqueId);
+            if (account != null) {
+                Player online = Bukkit.getPlayer(uniqueId);
+                leaderboard.update(uniqueId, online == null ? null : online.getName(), toMajor(account.get()));
+            }
+        }
+    }
+
+    /**
+     * Resolves a player name without blocking on a profile lookup.
+     *
+     * @param playerName the player name
+     * @return the player's UUID, or null if the name is not known to the server
+     */
+    private static UUID uniqueIdOf(String playerName) {
+        if (playerName == null) {
+            return null;
+        }
+
+        Player online = Bukkit.getPlayerExact(playerName);
+        if (online != null) {
+            return online.getUniqueId();
+        }
+
+        OfflinePlayer cached = Bukkit.getOfflinePlayerIfCached(playerName);
+        return cached == null ? null : cached.getUniqueId();
+    }
+
+    /**
+     * Converts an amount to minor units, rounding to the nearest unit.
+     *
+     * @param amount the amount
+     * @return the amount in minor units
+     */
+    private long toMinor(double amount) {
+        return Math.round(amount * scale);
+    }
+
+    /**
+     * Converts minor units to an amount.
+     *
+     * @param minor the amount in minor units
+     * @return the amount
+     */
+    private double toMajor(long minor) {
+        return (double) minor / scale;
+    }
+
+    /**
+     * Builds the response of an unsupported bank operation.
+     *
+     * @return a not implemented response
+     */
+    private static EconomyResponse banksNotSupported() {
+        return new EconomyResponse(0, 0, ResponseType.NOT_IMPLEMENTED, "VaultLite não suporta bancos");
+    }
+}
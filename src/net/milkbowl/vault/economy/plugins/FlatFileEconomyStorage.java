@@ -0,0 +1,389 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.CRC32;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flat-file economy storage: an append-only journal plus a compact snapshot.
+ *
+ * <p>Each batch appends one fixed-size record per account holding its
+ * current balance, then forces the journal once for the whole batch (group
+ * commit). Records carry absolute balances, so replaying one twice is
+ * harmless.</p>
+ *
+ * <p>Once the journal outgrows the compaction threshold, every balance is
+ * written to a temporary snapshot, forced, atomically moved over the
+ * previous snapshot, and only then is the journal truncated. Startup reads
+ * the snapshot sequentially in one pass and replays the journal tail,
+ * stopping at the first torn or corrupted record.</p>
+ *
+ * <p>Journal record layout: UUID most and least significant bits, balance in
+ * minor units, and a CRC32 of those 24 bytes. Snapshot layout: magic,
+ * version, count, {@code count} entries of UUID and balance, and a CRC32 of
+ * everything before it.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class FlatFileEconomyStorage implements EconomyStorage {
+
+    /**
+     * Snapshot file magic, {@code "VLES"}.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x564C4553;
+
+    /**
+     * Snapshot format version.
+     */
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /**
+     * Snapshot header size: magic, version and count.
+     */
+    private static final int SNAPSHOT_HEADER_BYTES = 12;
+
+    /**
+     * Snapshot entry size: UUID and balance.
+     */
+    private static final int ENTRY_BYTES = 24;
+
+    /**
+     * Journal record size: an entry and its CRC32.
+     */
+    private static final int RECORD_BYTES = ENTRY_BYTES + 4;
+
+    /**
+     * Records buffered before a write to the journal channel.
+     */
+    private static final int RECORDS_PER_WRITE = 1024;
+
+    /**
+     * Snapshot file.
+     */
+    private final Path snapshotFile;
+
+    /**
+     * Journal file.
+     */
+    private final Path journalFile;
+
+    /**
+     * Journal size that triggers a compaction, in bytes.
+     */
+    private final long compactThresholdBytes;
+
+    /**
+     * Stored balances, mirrored in memory so compaction never re-reads the files.
+     */
+    private final Map<UUID, Long> stored = new HashMap<>();
+
+    /**
+     * Reused record buffer of the writer thread.
+     */
+    private final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(RECORD_BYTES * RECORDS_PER_WRITE);
+
+    /**
+     * Reused checksum of the writer thread.
+     */
+    private final CRC32 checksum = new CRC32();
+
+    /**
+     * Journal channel positioned at its end, null until loaded.
+     */
+    private FileChannel journal;
+
+    /**
+     * Constructs a new flat-file storage.
+     *
+     * @param directory the directory holding the snapshot and journal files
+     * @param compactThresholdBytes the journal size that triggers a compaction, in bytes
+     */
+    public FlatFileEconomyStorage(Path directory, long compactThresholdBytes) {
+        this.snapshotFile = directory.resolve("balances.snapshot");
+        this.journalFile = directory.resolve("balances.journal");
+        this.compactThresholdBytes = Math.max(RECORD_BYTES, compactThresholdBytes);
+    }
+
+    /**
+     * Returns the backend name.
+     *
+     * @return the backend name
+     */
+    @Override
+    public String getName() {
+        return "flatfile";
+    }
+
+    /**
+     * Loads the snapshot, then replays the journal over it.
+     *
+     * <p>A torn or corrupted journal tail is cut off at the last valid record.</p>
+     *
+     * @return the balances in minor units, indexed by player UUID
+     * @throws IOException if the files cannot be read or the snapshot is corrupted
+     */
+    @Override
+    public synchronized Map<UUID, Long> load() throws IOException {
+        open();
+        return new HashMap<>(stored);
+    }
+
+    /**
+     * Streams every stored balance.
+     *
+     * @param visitor receives each player UUID and balance in minor units
+     * @throws IOException if the files cannot be read
+     */
+    @Override
+    public synchronized void forEach(ObjLongConsumer<UUID> visitor) throws IOException {
+        open();
+        for (Map.Entry<UUID, Long> entry : stored.entrySet()) {
+            visitor.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Appends a batch to the journal, forces it once and compacts if the journal is too large.
+     *
+     * @param balances the balances in minor units, indexed by player UUID
+     * @throws IOException if the journal cannot be written
+     */
+    @Override
+    public synchronized void upsert(Map<UUID, Long> balances) throws IOException {
+        open();
+        if (balances.isEmpty()) {
+            return;
+        }
+
+        long start = journal.position();
+        try {
+            recordBuffer.clear();
+            for (Map.Entry<UUID, Long> entry : balances.entrySet()) {
+                if (recordBuffer.remaining() < RECORD_BYTES) {
+                    writeRecords();
+                }
+                putRecord(entry.getKey(), entry.getValue());
+            }
+            writeRecords();
+            journal.force(false);
+        } catch (IOException exception) {
+            journal.truncate(start);
+            journal.position(start);
+            throw exception;
+        }
+
+        stored.putAll(balances);
+        if (journal.size() >= compactThresholdBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Compacts the journal into the snapshot and closes the files.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            if (journal.size() > 0) {
+                compact();
+            }
+        } finally {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Reads the files and opens the journal on first use.
+     *
+     * @throws IOException if the files cannot be read or the snapshot is corrupted
+     */
+    private void open() throws IOException {
+        if (journal != null) {
+            return;
+        }
+
+        Files.createDirectories(journalFile.getParent());
+        stored.clear();
+        readSnapshot(stored);
+
+        FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long validLength = replayJournal(channel, stored);
+            if (validLength < channel.size()) {
+                log.warn("[VaultLite] ⚠ Diário da economia truncado em {} bytes (registro incompleto ou corrompido)", validLength);
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+            channel.position(validLength);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        this.journal = channel;
+    }
+
+    /**
+     * Writes a record into the record buffer.
+     *
+     * @param uniqueId the player UUID
+     * @param balance the balance in minor units
+     */
+    private void putRecord(UUID uniqueId, long balance) {
+        int start = recordBuffer.position();
+        recordBuffer.putLong(uniqueId.getMostSignificantBits());
+        recordBuffer.putLong(uniqueId.getLeastSignificantBits());
+        recordBuffer.putLong(balance);
+
+        checksum.reset();
+        checksum.update(recordBuffer.duplicate().position(start).limit(start + ENTRY_BYTES));
+        recordBuffer.putInt((int) checksum.getValue());
+    }
+
+    /**
+     * Writes the buffered records to the journal.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    private void writeRecords() throws IOException {
+        recordBuffer.flip();
+        while (recordBuffer.hasRemaining()) {
+            journal.write(recordBuffer);
+        }
+        recordBuffer.clear();
+    }
+
+    /**
+     * Writes every stored balance into a new snapshot and truncates the journal.
+     *
+     * <p>The journal is only truncated once the new snapshot is forced and
+     * in place, so a crash at any point leaves a loadable state.</p>
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    private void compact() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_HEADER_BYTES + stored.size() * ENTRY_BYTES + 4);
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.putInt(SNAPSHOT_VERSION);
+        buffer.putInt(stored.size());
+        for (Map.Entry<UUID, Long> entry : stored.entrySet()) {
+            buffer.putLong(entry.getKey().getMostSignificantBits());
+            buffer.putLong(entry.getKey().getLeastSignificantBits());
+            buffer.putLong(entry.getValue());
+        }
+
+        CRC32 snapshotChecksum = new CRC32();
+        snapshotChecksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) snapshotChecksum.getValue());
+        buffer.flip();
+
+        Path temporary = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        journal.truncate(0);
+        journal.position(0);
+        journal.force(true);
+    }
+
+    /**
+     * Reads the snapshot, if any, in one sequential read.
+     *
+     * @param balances the map to fill
+     * @throws IOException if the snapshot cannot be read or is corrupted
+     */
+    private void readSnapshot(Map<UUID, Long> balances) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return;
+        }
+
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < SNAPSHOT_HEADER_BYTES + 4 || buffer.getInt() != SNAPSHOT_MAGIC
+                || buffer.getInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Snapshot da economia inválido: " + snapshotFile);
+        }
+
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * ENTRY_BYTES + SNAPSHOT_HEADER_BYTES + 4 != bytes.length) {
+            throw new IOException("Snapshot da economia com tamanho inválido: " + snapshotFile);
+        }
+
+        CRC32 snapshotChecksum = new CRC32();
+        snapshotChecksum.update(bytes, 0, bytes.length - 4);
+        if ((int) snapshotChecksum.getValue() != buffer.getInt(bytes.length - 4)) {
+            throw new IOException("Snapshot da economia corrompido: " + snapshotFile);
+        }
+
+        for (int index = 0; index < count; index++) {
+            UUID uniqueId = new UUID(buffer.getLong(), buffer.getLong());
+            balances.put(uniqueId, buffer.getLong());
+        }
+    }
+
+    /**
+     * Replays a journal over the loaded balances.
+     *
+     * @param channel the journal channel
+     * @param balances the map to update
+     * @return the length of the valid journal prefix, in bytes
+     * @throws IOException if the journal cannot be read
+     */
+    private static long replayJournal(FileChannel channel, Map<UUID, Long> balances) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE - 8));
+        channel.position(0);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Sequential read of the whole journal
+        }
+        buffer.flip();
+
+        CRC32 recordChecksum = new CRC32();
+        long valid = 0;
+        while (buffer.remaining() >= RECORD_BYTES) {
+            int start = buffer.position();
+            recordChecksum.reset();
+            recordChecksum.update(buffer.array(), start, ENTRY_BYTES);
+            long mostSignificant = buffer.getLong();
+            long leastSignificant = buffer.getLong();
+            long balance = buffer.getLong();
+            if ((int) recordChecksum.getValue() != buffer.getInt()) {
+                break;
+            }
+            balances.put(new UUID(mostSignificant, leastSignificant), balance);
+            valid += RECORD_BYTES;
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,279 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JDBC economy storage for embedded SQLite or H2 databases.
+ *
+ * <p>Balances live in a single table keyed by UUID. Batches are written
+ * through one reused prepared upsert statement with JDBC batching, inside a
+ * single transaction, from the storage writer's single thread. Loads and
+ * iteration stream the table with a bounded fetch size.</p>
+ *
+ * <p>The connection runs with auto-commit off; every operation, reads
+ * included, ends its own transaction. It is validated before each use and
+ * reopened if the database dropped it, so a lost connection only fails the
+ * batch in flight, which the writer retries.</p>
+ *
+ * <p>The dialect is picked from the URL: {@code jdbc:sqlite:} uses
+ * {@code INSERT ... ON CONFLICT}, {@code jdbc:h2:} uses {@code MERGE ... KEY}.
+ * The driver must be present on the server; Paper ships SQLite.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class JdbcEconomyStorage implements EconomyStorage {
+
+    /**
+     * Table holding the balances.
+     */
+    private static final String TABLE = "vaultlite_balances";
+
+    /**
+     * Statements added before each batch execution.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Rows fetched per round trip while streaming.
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    /**
+     * Seconds to wait for a connection validation.
+     */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * JDBC URL of the database.
+     */
+    private final String url;
+
+    /**
+     * Database user, empty for embedded databases.
+     */
+    private final String username;
+
+    /**
+     * Database password, empty for embedded databases.
+     */
+    private final String password;
+
+    /**
+     * Open connection, null until first use.
+     */
+    private Connection connection;
+
+    /**
+     * Reused upsert statement, null until the first batch.
+     */
+    private PreparedStatement upsertStatement;
+
+    /**
+     * Constructs a new JDBC storage.
+     *
+     * @param url the JDBC URL, {@code jdbc:sqlite:} or {@code jdbc:h2:}
+     * @param username the database user (can be null)
+     * @param password the database password (can be null)
+     */
+    public JdbcEconomyStorage(String url, String username, String password) {
+        this.url = url;
+        this.username = username == null ? "" : username;
+        this.password = password == null ? "" : password;
+    }
+
+    /**
+     * Returns the backend name.
+     *
+     * @return the backend name
+     */
+    @Override
+    public String getName() {
+        return "jdbc";
+    }
+
+    /**
+     * Loads every stored balance with one streamed query.
+     *
+     * @return the balances in minor units, indexed by player UUID
+     * @throws IOException if the database cannot be read
+     */
+    @Override
+    public Map<UUID, Long> load() throws IOException {
+        Map<UUID, Long> balances = new HashMap<>();
+        forEach(balances::put);
+        return balances;
+    }
+
+    /**
+     * Streams every stored balance.
+     *
+     * <p>The read transaction is always ended after the scan, so the next
+     * write never runs inside it.</p>
+     *
+     * @param visitor receives each player UUID and balance in minor units
+     * @throws IOException if the database cannot be read
+     */
+    @Override
+    public synchronized void forEach(ObjLongConsumer<UUID> visitor) throws IOException {
+        try {
+            Connection database = connection();
+            try (Statement statement = database.createStatement()) {
+                statement.setFetchSize(FETCH_SIZE);
+                try (ResultSet rows = statement.executeQuery("SELECT uuid, balance FROM " + TABLE)) {
+                    while (rows.next()) {
+                        visitor.accept(UUID.fromString(rows.getString(1)), rows.getLong(2));
+                    }
+                }
+            } finally {
+                database.rollback();
+            }
+        } catch (SQLException | IllegalArgumentException exception) {
+            throw new IOException("Falha ao ler os saldos: " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Upserts a batch in one transaction with prepared-statement batching.
+     *
+     * @param balances the balances in minor units, indexed by player UUID
+     * @throws IOException if the batch cannot be stored; the transaction is rolled back
+     */
+    @Override
+    public synchronized void upsert(Map<UUID, Long> balances) throws IOException {
+        if (balances.isEmpty()) {
+            return;
+        }
+
+        try {
+            Connection database = connection();
+            if (upsertStatement == null) {
+                upsertStatement = database.prepareStatement(isSqlite()
+                        ? "INSERT INTO " + TABLE + " (uuid, balance) VALUES (?, ?)"
+                                + " ON CONFLICT(uuid) DO UPDATE SET balance = excluded.balance"
+                        : "MERGE INTO " + TABLE + " (uuid, balance) KEY (uuid) VALUES (?, ?)");
+            }
+
+            PreparedStatement statement = upsertStatement;
+            try {
+                int pending = 0;
+                for (Map.Entry<UUID, Long> entry : balances.entrySet()) {
+                    statement.setString(1, entry.getKey().toString());
+                    statement.setLong(2, entry.getValue());
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                database.commit();
+            } catch (SQLException exception) {
+                statement.clearBatch();
+                database.rollback();
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            throw new IOException("Falha ao gravar os saldos: " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Closes the statements and the connection.
+     *
+     * @throws IOException if the connection cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            closeConnection();
+        } catch (SQLException exception) {
+            throw new IOException("Falha ao fechar o banco da economia: " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Returns a valid connection, connecting and creating the table if needed.
+     *
+     * <p>A connection that fails validation is discarded together with its
+     * prepared statements and a new one is opened.</p>
+     *
+     * @return the connection
+     * @throws SQLException if the database cannot be opened
+     */
+    private Connection connection() throws SQLException {
+        if (connection != null) {
+            if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return connection;
+            }
+            log.warn("[VaultLite] ⚠ Conexão com o banco da economia perdida, reconectando");
+            try {
+                closeConnection();
+            } catch (SQLException ignored) {
+                // The broken connection is discarded either way
+            }
+        }
+
+        Connection opened = DriverManager.getConnection(url, username, password);
+        try (Statement statement = opened.createStatement()) {
+            if (isSqlite()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE
+                    + " (uuid CHAR(36) NOT NULL PRIMARY KEY, balance BIGINT NOT NULL)");
+            opened.setAutoCommit(false);
+            opened.commit();
+        } catch (SQLException exception) {
+            opened.close();
+            throw exception;
+        }
+        log.info("[VaultLite] → Economia: banco conectado ({})", isSqlite() ? "SQLite" : "H2");
+        this.connection = opened;
+        return opened;
+    }
+
+    /**
+     * Closes the statements and the connection, forgetting them even on failure.
+     *
+     * @throws SQLException if a statement or the connection cannot be closed
+     */
+    private void closeConnection() throws SQLException {
+        try {
+            if (upsertStatement != null) {
+                upsertStatement.close();
+            }
+            if (connection != null) {
+                connection.close();
+            }
+        } finally {
+            upsertStatement = null;
+            connection = null;
+        }
+    }
+
+    /**
+     * Checks whether the URL points to a SQLite database.
+     *
+     * @return {@code true} for SQLite, {@code false} for H2
+     */
+    private boolean isSqlite() {
+        return url.regionMatches(true, 0, "jdbc:sqlite:", 0, "jdbc:sqlite:".length());
+    }
+}
@@ -0,0 +1,181 @@
+package net.milkbowl.vault.papi;
+
+/**
+ * Allocation-light number formatting for balance placeholders.
+ * 
+ * <p>Balances are rounded to cents and written digit by digit into a
+ * per-thread reused {@link StringBuilder}, so the only allocation per call
+ * is the returned string. Values too large to be represented in cents fall
+ * back to {@link Double#toString(double)}.</p>
+ * 
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class BalanceFormat {
+
+	/**
+	 * Largest absolute value formatted in cents without overflowing a {@code long}.
+	 */
+	private static final double MAX_EXACT = 1.0E15;
+
+	/**
+	 * Suffixes of the short format, by power of a thousand.
+	 */
+	private static final char[] SHORT_SUFFIXES = { 'k', 'M', 'B', 'T' };
+
+	/**
+	 * Reused format buffer of each thread.
+	 */
+	private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+	/**
+	 * Utility class, not instantiable.
+	 */
+	private BalanceFormat() {
+	}
+
+	/**
+	 * Formats a balance with up to two decimals and at least one, e.g. {@code 1234.5} or {@code 100.0}.
+	 * 
+	 * @param value the balance
+	 * @return the formatted balance
+	 */
+	static String plain(double value) {
+		if (!exact(value)) {
+			return Double.toString(value);
+		}
+		
+		StringBuilder buffer = start();
+		long cents = Math.round(value * 100.0);
+		appendSign(buffer, cents);
+		cents = Math.abs(cents);
+		buffer.append(cents / 100).append('.');
+		long fraction = cents % 100;
+		buffer.append((char) ('0' + fraction / 10));
+		if (fraction % 10 != 0) {
+			buffer.append((char) ('0' + fraction % 10));
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Formats a balance with exactly two decimals, e.g. {@code 1234.50}.
+	 * 
+	 * @param value the balance
+	 * @return the formatted balance
+	 */
+	static String fixed(double value) {
+		return grouped(value, false);
+	}
+
+	/**
+	 * Formats a balance with thousands separators and two decimals, e.g. {@code 1,234.50}.
+	 * 
+	 * @param value the balance
+	 * @return the formatted balance
+	 */
+	static String commas(double value) {
+		return grouped(value, true);
+	}
+
+	/**
+	 * Formats a balance in short form with one decimal at most, e.g. {@code 1.2k} or {@code 3.4M}.
+	 * 
+	 * @param value the balance
+	 * @return the formatted balance
+	 */
+	static String compact(double value) {
+		if (!exact(value)) {
+			return Double.toString(value);
+		}
+		
+		double magnitude = Math.abs(value);
+		int power = -1;
+		while (power + 1 < SHORT_SUFFIXES.length && magnitude >= 1000.0) {
+			magnitude /= 1000.0;
+			power++;
+		}
+		
+		long tenths = Math.round(magnitude * 10.0);
+		if (tenths >= 10_000 && power + 1 < SHORT_SUFFIXES.length) {
+			tenths = Math.round(magnitude / 100.0);
+			power++;
+		}
+		
+		StringBuilder buffer = start();
+		if (value < 0 && tenths != 0) {
+			buffer.append('-');
+		}
+		buffer.append(tenths / 10);
+		if (tenths % 10 != 0) {
+			buffer.append('.').append((char) ('0' + tenths % 10));
+		}
+		if (power >= 0) {
+			buffer.append(SHORT_SUFFIXES[power]);
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Formats a balance with two decimals, optionally grouping thousands.
+	 * 
+	 * @param value the balance
+	 * @param separators whether to insert thousands separators
+	 * @return the formatted balance
+	 */
+	private static String grouped(double value, boolean separators) {
+		if (!exact(value)) {
+			return Double.toString(value);
+		}
+		
+		StringBuilder buffer = start();
+		long cents = Math.round(value * 100.0);
+		appendSign(buffer, cents);
+		cents = Math.abs(cents);
+		long whole = cents / 100;
+		int digitsStart = buffer.length();
+		buffer.append(whole);
+		if (separators) {
+			for (int index = buffer.length() - 3; index > digitsStart; index -= 3) {
+				buffer.insert(index, ',');
+			}
+		}
+		long fraction = cents % 100;
+		buffer.append('.').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the cleared buffer of the current thread.
+	 * 
+	 * @return the buffer
+	 */
+	private static StringBuilder start() {
+		StringBuilder buffer = BUFFER.get();
+		buffer.setLength(0);
+		return buffer;
+	}
+
+	/**
+	 * Appends a minus sign for negative amounts.
+	 * 
+	 * @param buffer the buffer
+	 * @param cents the amount in cents
+	 */
+	private static void appendSign(StringBuilder buffer, long cents) {
+		if (cents < 0) {
+			buffer.append('-');
+		}
+	}
+
+	/**
+	 * Checks whether a value can be formatted in cents.
+	 * 
+	 * @param value the value
+	 * @return {@code true} if the value is finite and small enough
+	 */
+	private static boolean exact(double value) {
+		return !Double.isNaN(value) && Math.abs(value) < MAX_EXACT;
+	}
+}
@@ -0,0 +1,331 @@
+package net.milkbowl.vault.papi;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Incrementally maintained balance ranking.
+ * 
+ * <p>Accounts are kept in an order-statistic treap ordered by balance,
+ * highest first, with the UUID breaking ties. Every node stores the size of
+ * its subtree, so updates, the entry at a rank and the rank of a player all
+ * take {@code O(log n)} expected time instead of sorting every account.
+ * Balance changes are pushed in by the built-in economy, or, with a
+ * third-party economy, by the placeholder balance refreshes.</p>
+ * 
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BalanceLeaderboard {
+
+	/**
+	 * Ranked nodes indexed by player UUID.
+	 */
+	private final Map<UUID, Node> nodes = new HashMap<>();
+
+	/**
+	 * Source of treap priorities.
+	 */
+	private final SplittableRandom random = new SplittableRandom();
+
+	/**
+	 * Root of the treap, null when empty.
+	 */
+	private Node root;
+
+	/**
+	 * Left result of the last {@link #split(Node, Node)}.
+	 */
+	private Node splitLeft;
+
+	/**
+	 * Right result of the last {@link #split(Node, Node)}.
+	 */
+	private Node splitRight;
+
+	/**
+	 * Records the balance of a player.
+	 * 
+	 * @param uniqueId the player UUID
+	 * @param name the player name, or null to keep the known one
+	 * @param balance the balance
+	 */
+	public synchronized void update(UUID uniqueId, String name, double balance) {
+		if (uniqueId == null || Double.isNaN(balance)) {
+			return;
+		}
+		
+		Node existing = nodes.get(uniqueId);
+		if (existing != null) {
+			if (name != null) {
+				existing.name = name;
+			}
+			if (Double.compare(existing.balance, balance) == 0) {
+				return;
+			}
+			root = delete(root, existing);
+		}
+		
+		Node node = new Node(uniqueId, name != null || existing == null ? name : existing.name, balance, random.nextInt());
+		nodes.put(uniqueId, node);
+		split(root, node);
+		Node left = splitLeft;
+		Node right = splitRight;
+		root = merge(merge(left, node), right);
+	}
+
+	/**
+	 * Records the name of a ranked player without touching its balance.
+	 * 
+	 * @param uniqueId the player UUID
+	 * @param name the player name
+	 */
+	public synchronized void rename(UUID uniqueId, String name) {
+		Node existing = nodes.get(uniqueId);
+		if (existing != null && name != null) {
+			existing.name = name;
+		}
+	}
+
+	/**
+	 * Returns the number of ranked players.
+	 * 
+	 * @return the number of ranked players
+	 */
+	public synchronized int size() {
+		return size(root);
+	}
+
+	/**
+	 * Returns the entry at a rank.
+	 * 
+	 * @param rank the rank, starting at 1 for the highest balance
+	 * @return the entry, or null if fewer players are ranked
+	 */
+	public synchronized Entry at(int rank) {
+		if (rank < 1 || rank > size(root)) {
+			return null;
+		}
+		
+		Node node = root;
+		int remaining = rank;
+		while (node != null) {
+			int leftSize = size(node.left);
+			if (remaining <= leftSize) {
+				node = node.left;
+			} else if (remaining == leftSize + 1) {
+				return new Entry(node.uniqueId, node.name, node.balance);
+			} else {
+				remaining -= leftSize + 1;
+				node = node.right;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the rank of a player.
+	 * 
+	 * @param uniqueId the player UUID
+	 * @return the rank starting at 1, or 0 if the player is not ranked
+	 */
+	public synchronized int rankOf(UUID uniqueId) {
+		Node target = nodes.get(uniqueId);
+		if (target == null) {
+			return 0;
+		}
+		
+		int rank = 0;
+		Node node = root;
+		while (node != null) {
+			int order = compare(target, node);
+			if (order < 0) {
+				node = node.left;
+			} else {
+				rank += size(node.left) + 1;
+				if (order == 0) {
+					return rank;
+				}
+				node = node.right;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Splits a subtree into the nodes ordered before a key and the rest.
+	 * 
+	 * <p>Results are left in {@link #splitLeft} and {@link #splitRight}.</p>
+	 * 
+	 * @param node the subtree root
+	 * @param key the split key
+	 */
+	private void split(Node node, Node key) {
+		if (node == null) {
+			splitLeft = null;
+			splitRight = null;
+			return;
+		}
+		
+		if (compare(node, key) < 0) {
+			split(node.right, key);
+			node.right = splitLeft;
+			update(node);
+			splitLeft = node;
+		} else {
+			split(node.left, key);
+			node.left = splitRight;
+			update(node);
+			splitRight = node;
+		}
+	}
+
+	/**
+	 * Merges two subtrees where every node of the first is ordered before the second.
+	 * 
+	 * @param left the first subtree
+	 * @param right the second subtree
+	 * @return the merged subtree
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			update(left);
+			return left;
+		}
+		right.left = merge(left, right.left);
+		update(right);
+		return right;
+	}
+
+	/**
+	 * Deletes a node from a subtree.
+	 * 
+	 * @param node the subtree root
+	 * @param target the node to delete
+	 * @return the new subtree root
+	 */
+	private static Node delete(Node node, Node target) {
+		if (node == null) {
+			return null;
+		}
+		if (node == target) {
+			return merge(node.left, node.right);
+		}
+		
+		if (compare(target, node) < 0) {
+			node.left = delete(node.left, target);
+		} else {
+			node.right = delete(node.right, target);
+		}
+		update(node);
+		return node;
+	}
+
+	/**
+	 * Orders two nodes by balance, highest first, then by UUID.
+	 * 
+	 * @param first the first node
+	 * @param second the second node
+	 * @return a negative value if the first node ranks higher
+	 */
+	private static int compare(Node first, Node second) {
+		int order = Double.compare(second.balance, first.balance);
+		return order != 0 ? order : first.uniqueId.compareTo(second.uniqueId);
+	}
+
+	/**
+	 * Recomputes the subtree size of a node.
+	 * 
+	 * @param node the node
+	 */
+	private static void update(Node node) {
+		node.size = size(node.left) + size(node.right) + 1;
+	}
+
+	/**
+	 * Returns the size of a subtree.
+	 * 
+	 * @param node the subtree root (can be null)
+	 * @return the number of nodes
+	 */
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * A ranked account.
+	 * 
+	 * @param uniqueId the player UUID
+	 * @param name the last known player name (can be null)
+	 * @param balance the balance
+	 */
+	public record Entry(UUID uniqueId, String name, double balance) {
+	}
+
+	/**
+	 * A treap node.
+	 */
+	private static final class Node {
+
+		/**
+		 * The player UUID.
+		 */
+		private final UUID uniqueId;
+
+		/**
+		 * The last known player name.
+		 */
+		private String name;
+
+		/**
+		 * The ranked balance.
+		 */
+		private final double balance;
+
+		/**
+		 * The heap priority.
+		 */
+		private final int priority;
+
+		/**
+		 * Nodes in the subtree rooted here.
+		 */
+		private int size = 1;
+
+		/**
+		 * Higher ranked children.
+		 */
+		private Node left;
+
+		/**
+		 * Lower ranked children.
+		 */
+		private Node right;
+
+		/**
+		 * Constructs a new node.
+		 * 
+		 * @param uniqueId the player UUID
+		 * @param name the player name
+		 * @param balance the balance
+		 * @param priority the heap priority
+		 */
+		private Node(UUID uniqueId, String name, double balance, int priority) {
+			this.uniqueId = uniqueId;
+			this.name = name;
+			this.balance = balance;
+			this.priority = priority;
+		}
+	}
+}
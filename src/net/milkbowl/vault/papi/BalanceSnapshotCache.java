@@ -0,0 +1,199 @@
+package net.milkbowl.vault.papi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.plugins.Economy_VaultLite;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-player balance snapshots for placeholder reads.
+ * 
+ * <p>Placeholders are resolved on the server thread, while economy backends
+ * may hit a database on every {@code getBalance}. Reads here always return
+ * the last snapshot immediately; a snapshot older than the staleness bound
+ * schedules a refresh on the async scheduler, and concurrent reads of the
+ * same player while it runs do not schedule another one. A player that was
+ * never read returns {@code 0} until the first refresh completes.</p>
+ * 
+ * <p>With a third-party economy, every refreshed balance is also pushed into
+ * the {@link BalanceLeaderboard}, so the ranking only covers players whose
+ * balance placeholders have been read. The built-in
+ * {@link Economy_VaultLite} feeds the leaderboard itself with every account,
+ * and its refreshes are not pushed: a snapshot fetched before a later
+ * transaction would otherwise overwrite the newer rank.</p>
+ * 
+ * <p>Snapshots are dropped when a player quits. Offline players read by
+ * leaderboard lines or scoreboards never quit, so snapshots are also kept
+ * in an access-ordered LRU map of at most {@value #MAX_SIZE} entries.</p>
+ * 
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class BalanceSnapshotCache {
+
+	/**
+	 * Maximum number of snapshots kept in memory.
+	 */
+	private static final int MAX_SIZE = 2048;
+
+	/**
+	 * Plugin used to schedule refreshes.
+	 */
+	private final Plugin plugin;
+
+	/**
+	 * Maximum age of a snapshot before a refresh is scheduled, in nanoseconds.
+	 */
+	private final long stalenessNanos;
+
+	/**
+	 * Ranking updated with refreshed balances of third-party economies.
+	 */
+	private final BalanceLeaderboard leaderboard;
+
+	/**
+	 * Access-ordered snapshots indexed by player UUID, guarded by their own monitor.
+	 */
+	private final LinkedHashMap<UUID, Snapshot> snapshots = new LinkedHashMap<>(64, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<UUID, Snapshot> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	/**
+	 * Constructs a new cache and registers the listener dropping snapshots on quit.
+	 * 
+	 * @param plugin the plugin instance
+	 * @param stalenessMillis the maximum age of a snapshot, in milliseconds
+	 * @param leaderboard the ranking to update with refreshed balances of third-party economies
+	 */
+	public BalanceSnapshotCache(Plugin plugin, long stalenessMillis, BalanceLeaderboard leaderboard) {
+		this.plugin = plugin;
+		this.stalenessNanos = Math.max(0L, stalenessMillis) * 1_000_000L;
+		this.leaderboard = leaderboard;
+		Bukkit.getServer().getPluginManager().registerEvents(new SnapshotListener(), plugin);
+	}
+
+	/**
+	 * Returns the cached balance of a player, scheduling a refresh if it is stale.
+	 * 
+	 * @param player the player
+	 * @param economy the economy provider to refresh from
+	 * @return the last known balance, or {@code 0} before the first refresh
+	 */
+	public double get(OfflinePlayer player, Economy economy) {
+		Snapshot snapshot;
+		synchronized (snapshots) {
+			snapshot = snapshots.computeIfAbsent(player.getUniqueId(), key -> new Snapshot());
+		}
+		
+		if (!snapshot.attempted || System.nanoTime() - snapshot.refreshedAt > stalenessNanos) {
+			scheduleRefresh(player, economy, snapshot);
+		}
+		return snapshot.balance;
+	}
+
+	/**
+	 * Marks a player's snapshot as stale so the next read refreshes it.
+	 * 
+	 * @param uniqueId the player UUID
+	 */
+	public void invalidate(UUID uniqueId) {
+		Snapshot snapshot;
+		synchronized (snapshots) {
+			snapshot = snapshots.get(uniqueId);
+		}
+		if (snapshot != null) {
+			snapshot.attempted = false;
+		}
+	}
+
+	/**
+	 * Schedules an async refresh unless one is already running for the snapshot.
+	 * 
+	 * @param player the player
+	 * @param economy the economy provider
+	 * @param snapshot the snapshot to refresh
+	 */
+	private void scheduleRefresh(OfflinePlayer player, Economy economy, Snapshot snapshot) {
+		if (!plugin.isEnabled() || !snapshot.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		
+		Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+			try {
+				double balance = economy.getBalance(player);
+				snapshot.balance = balance;
+				if (!(economy instanceof Economy_VaultLite)) {
+					leaderboard.update(player.getUniqueId(), player.getName(), balance);
+				}
+			} catch (RuntimeException exception) {
+				log.warn("[VaultLite] ⚠ Falha ao atualizar saldo de {}: {}", player.getUniqueId(), exception.getMessage());
+			} finally {
+				snapshot.refreshedAt = System.nanoTime();
+				snapshot.attempted = true;
+				snapshot.refreshing.set(false);
+			}
+		});
+	}
+
+	/**
+	 * Last known balance of a player.
+	 */
+	private static final class Snapshot {
+
+		/**
+		 * Last known balance.
+		 */
+		private volatile double balance;
+
+		/**
+		 * Whether a refresh has completed, successfully or not.
+		 */
+		private volatile boolean attempted;
+
+		/**
+		 * {@link System#nanoTime()} of the last refresh attempt.
+		 */
+		private volatile long refreshedAt;
+
+		/**
+		 * Whether a refresh is currently running.
+		 */
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+	}
+
+	/**
+	 * Bukkit listener that drops the snapshot of a leaving player.
+	 */
+	public class SnapshotListener implements Listener {
+
+		/**
+		 * Drops the snapshot of a player on quit.
+		 * 
+		 * @param event the quit event
+		 */
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onPlayerQuit(PlayerQuitEvent event) {
+			synchronized (snapshots) {
+				snapshots.remove(event.getPlayer().getUniqueId());
+			}
+		}
+	}
+}
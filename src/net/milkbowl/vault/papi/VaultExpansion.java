@@ -1,26 +1,57 @@
 package net.milkbowl.vault.papi;
 
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.Plugin;
 
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import net.milkbowl.vault.VaultServices;
+import net.milkbowl.vault.chat.Chat;
 import net.milkbowl.vault.economy.Economy;
-import org.bukkit.Bukkit;
-import org.bukkit.plugin.RegisteredServiceProvider;
+import net.milkbowl.vault.permission.Permission;
+import net.milkbowl.vault.permission.plugins.PermissionHandle;
+import net.milkbowl.vault.permission.plugins.Permission_LuckPerms;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * PlaceholderAPI expansion for VaultLite.
  * 
- * <p>This class provides economy placeholders through PlaceholderAPI,
- * allowing other plugins to access economy information in a standardized way.</p>
+ * <p>This class provides economy, chat and permission placeholders through
+ * PlaceholderAPI, allowing other plugins to access this information in a
+ * standardized way.</p>
  * 
  * <p>Available placeholders:</p>
  * <ul>
  *   <li>{@code %vault_balance%} - Player balance</li>
- *   <li>{@code %vault_balance_formatted%} - Formatted player balance</li>
+ *   <li>{@code %vault_balance_formatted%} - Balance formatted by the economy provider</li>
+ *   <li>{@code %vault_balance_fixed%} - Balance with two decimals ({@code 1234.50})</li>
+ *   <li>{@code %vault_balance_commas%} - Balance with separators ({@code 1,234.50})</li>
+ *   <li>{@code %vault_balance_short%} - Short balance ({@code 1.2k}, {@code 3.4M})</li>
+ *   <li>{@code %vault_prefix%} / {@code %vault_suffix%} - Player prefix and suffix</li>
+ *   <li>{@code %vault_group%} - Primary group</li>
+ *   <li>{@code %vault_groups%} - Every group, comma separated</li>
+ *   <li>{@code %vault_has_<permission>%} - {@code yes} or {@code no}</li>
+ *   <li>{@code %vault_ingroup_<group>%} - {@code yes} or {@code no}</li>
+ *   <li>{@code %vault_top_<n>_name%} / {@code %vault_top_<n>_balance%} - Account at rank {@code n}</li>
+ *   <li>{@code %vault_rank%} - The player's balance rank</li>
  * </ul>
  * 
+ * <p>Requests are matched against a dispatch table built once, without
+ * lowercasing or splitting the parameters. The arguments of {@code has_} and
+ * {@code ingroup_} are extracted once per distinct placeholder.</p>
+ * 
+ * <p>Balances are served from a {@link BalanceSnapshotCache} and refreshed
+ * off the server thread, so placeholders never wait on the economy backend.</p>
+ * 
+ * <p>The {@code top_} and {@code rank} placeholders rank every account of
+ * the built-in economy. With a third-party economy, only players whose
+ * balance placeholders have been read are ranked.</p>
+ * 
  * @author VaultLite Team
  * @version 1.0.0
  * @since 1.0.0
@@ -28,6 +59,106 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class VaultExpansion extends PlaceholderExpansion {
 
+	/**
+	 * Prefix of permission check placeholders.
+	 */
+	private static final String HAS_PREFIX = "has_";
+
+	/**
+	 * Prefix of group membership placeholders.
+	 */
+	private static final String IN_GROUP_PREFIX = "ingroup_";
+
+	/**
+	 * Prefix of leaderboard placeholders.
+	 */
+	private static final String TOP_PREFIX = "top_";
+
+	/**
+	 * Maximum number of distinct {@code has_} and {@code ingroup_} arguments kept compiled.
+	 */
+	private static final int MAX_COMPILED_ARGUMENTS = 1024;
+
+	/**
+	 * Balance snapshots served to placeholder reads.
+	 */
+	private final BalanceSnapshotCache balances;
+
+	/**
+	 * Balance ranking served to {@code top_} placeholders.
+	 */
+	private final BalanceLeaderboard leaderboard;
+
+	/**
+	 * Handlers of the fixed placeholders, matched case-insensitively without allocation.
+	 */
+	private final Map<String, PlaceholderHandler> handlers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * Compiled permissions of {@code has_} placeholders, indexed by the full parameters.
+	 */
+	private final Map<String, PermissionHandle> permissionArguments = new ConcurrentHashMap<>();
+
+	/**
+	 * Group names of {@code ingroup_} placeholders, indexed by the full parameters.
+	 */
+	private final Map<String, String> groupArguments = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new expansion.
+	 * 
+	 * @param plugin the plugin instance
+	 * @param balanceStalenessMillis the maximum age of a cached balance, in milliseconds
+	 * @param leaderboard the balance ranking
+	 */
+	public VaultExpansion(Plugin plugin, long balanceStalenessMillis, BalanceLeaderboard leaderboard) {
+		this.leaderboard = leaderboard;
+		this.balances = new BalanceSnapshotCache(plugin, balanceStalenessMillis, leaderboard);
+		
+		handlers.put("balance", player -> BalanceFormat.plain(balance(player)));
+		handlers.put("balance_formatted", player -> {
+			Economy economyProvider = economy();
+			return economyProvider == null ? "" : economyProvider.format(balance(player));
+		});
+		handlers.put("balance_fixed", player -> BalanceFormat.fixed(balance(player)));
+		handlers.put("balance_commas", player -> BalanceFormat.commas(balance(player)));
+		handlers.put("balance_short", player -> BalanceFormat.compact(balance(player)));
+		handlers.put("prefix", player -> {
+			Chat chat = VaultServices.chat();
+			return chat == null || player == null ? "" : nullToEmpty(chat.getPlayerPrefix(null, player));
+		});
+		handlers.put("suffix", player -> {
+			Chat chat = VaultServices.chat();
+			return chat == null || player == null ? "" : nullToEmpty(chat.getPlayerSuffix(null, player));
+		});
+		handlers.put("group", player -> {
+			Permission permission = VaultServices.permission();
+			return permission == null || player == null ? "" : nullToEmpty(permission.getPrimaryGroup(null, player));
+		});
+		handlers.put("groups", player -> {
+			Permission permission = VaultServices.permission();
+			if (permission == null || player == null) {
+				return "";
+			}
+			
+			String[] groups = permission.getPlayerGroups(null, player);
+			return groups == null ? "" : String.join(", ", groups);
+		});
+		handlers.put("rank", player -> {
+			int rank = player == null ? 0 : leaderboard.rankOf(player.getUniqueId());
+			return rank == 0 ? "" : Integer.toString(rank);
+		});
+	}
+
+	/**
+	 * Returns the balance snapshot cache.
+	 * 
+	 * @return the balance snapshot cache
+	 */
+	public BalanceSnapshotCache getBalances() {
+		return balances;
+	}
+
 	/**
 	 * Returns the expansion identifier.
 	 * 
@@ -71,31 +202,20 @@ public final class VaultExpansion extends PlaceholderExpansion {
 	/**
 	 * Gets the economy provider registered on the server.
 	 * 
+	 * <p>Read from {@link VaultServices}, which re-resolves the provider only
+	 * when registrations change.</p>
+	 * 
 	 * @return the economy provider or null if not found
 	 */
 	private Economy economy() {
-		if (Bukkit.getServicesManager() == null) {
-			return null;
-		}
-		
-		RegisteredServiceProvider<Economy> economyServiceProvider = Bukkit.getServicesManager()
-				.getRegistration(Economy.class);
-
-		if (economyServiceProvider == null) {
-			return null;
-		}
-		
-		return economyServiceProvider.getProvider();
+		return VaultServices.economy();
 	}
 
 	/**
 	 * Processes a placeholder request.
 	 * 
-	 * <p>Supported placeholders:</p>
-	 * <ul>
-	 *   <li>{@code balance} - Returns the player's balance</li>
-	 *   <li>{@code balance_formatted} - Returns the player's formatted balance</li>
-	 * </ul>
+	 * <p>Fixed placeholders are looked up in the dispatch table; otherwise
+	 * the {@code has_} and {@code ingroup_} prefixes are matched in place.</p>
 	 * 
 	 * @param player the player (can be null)
 	 * @param params the placeholder parameters
@@ -103,18 +223,173 @@ public final class VaultExpansion extends PlaceholderExpansion {
 	 */
 	@Override
 	public String onRequest(OfflinePlayer player, String params) {
-		Economy economyProvider = economy();
-		if (economyProvider == null) {
+		PlaceholderHandler handler = handlers.get(params);
+		if (handler != null) {
+			return handler.apply(player);
+		}
+		
+		if (params.regionMatches(true, 0, HAS_PREFIX, 0, HAS_PREFIX.length())) {
+			return hasPermission(player, params) ? "yes" : "no";
+		}
+		if (params.regionMatches(true, 0, IN_GROUP_PREFIX, 0, IN_GROUP_PREFIX.length())) {
+			return inGroup(player, params) ? "yes" : "no";
+		}
+		if (params.regionMatches(true, 0, TOP_PREFIX, 0, TOP_PREFIX.length())) {
+			return top(params);
+		}
+		return "";
+	}
+
+	/**
+	 * Resolves a {@code top_<n>_name} or {@code top_<n>_balance} placeholder.
+	 * 
+	 * @param params the full placeholder parameters
+	 * @return the name or balance at the rank, or empty string if the rank is not filled
+	 */
+	private String top(String params) {
+		int index = TOP_PREFIX.length();
+		int rank = 0;
+		while (index < params.length() && index < TOP_PREFIX.length() + 9) {
+			char digit = params.charAt(index);
+			if (digit < '0' || digit > '9') {
+				break;
+			}
+			rank = rank * 10 + (digit - '0');
+			index++;
+		}
+		if (index == TOP_PREFIX.length() || index >= params.length() || params.charAt(index) != '_') {
 			return "";
 		}
 		
-		return switch (params.toLowerCase()) {
-			case "balance" -> player == null ? "0" : Double.toString(economyProvider.getBalance(player));
-			
-			case "balance_formatted" -> player == null ? 
-				economyProvider.format(0) : 
-				economyProvider.format(economyProvider.getBalance(player));
-			default -> "";
-		};
+		int field = index + 1;
+		int fieldLength = params.length() - field;
+		boolean name = fieldLength == 4 && params.regionMatches(true, field, "name", 0, 4);
+		boolean balance = fieldLength == 7 && params.regionMatches(true, field, "balance", 0, 7);
+		if (!name && !balance) {
+			return "";
+		}
+		
+		BalanceLeaderboard.Entry entry = leaderboard.at(rank);
+		if (entry == null) {
+			return "";
+		}
+		if (name) {
+			return nameOf(entry);
+		}
+		return BalanceFormat.plain(entry.balance());
+	}
+
+	/**
+	 * Returns the name of a ranked player, resolving it on first render.
+	 * 
+	 * <p>The built-in economy only ranks online players by name, so offline
+	 * names are looked up here, once per rendered rank, and remembered.</p>
+	 * 
+	 * @param entry the ranked entry
+	 * @return the player name, or empty string if the server does not know it
+	 */
+	private String nameOf(BalanceLeaderboard.Entry entry) {
+		if (entry.name() != null) {
+			return entry.name();
+		}
+		
+		String resolved = Bukkit.getOfflinePlayer(entry.uniqueId()).getName();
+		if (resolved == null) {
+			return "";
+		}
+		leaderboard.rename(entry.uniqueId(), resolved);
+		return resolved;
+	}
+
+	/**
+	 * Returns the cached balance of a player.
+	 * 
+	 * @param player the player (can be null)
+	 * @return the balance, or {@code 0} without a player or economy provider
+	 */
+	private double balance(OfflinePlayer player) {
+		Economy economyProvider = economy();
+		return player == null || economyProvider == null ? 0.0 : balances.get(player, economyProvider);
+	}
+
+	/**
+	 * Resolves a {@code has_<permission>} placeholder.
+	 * 
+	 * <p>With the LuckPerms provider the permission is checked through a
+	 * precompiled {@link PermissionHandle}. Once {@value #MAX_COMPILED_ARGUMENTS}
+	 * arguments are compiled, new ones are checked as plain strings, so
+	 * arbitrary placeholder input cannot grow the global handle table.</p>
+	 * 
+	 * @param player the player (can be null)
+	 * @param params the full placeholder parameters
+	 * @return {@code true} if the player has the permission
+	 */
+	private boolean hasPermission(OfflinePlayer player, String params) {
+		Permission permission = VaultServices.permission();
+		if (permission == null || player == null || params.length() == HAS_PREFIX.length()) {
+			return false;
+		}
+		
+		PermissionHandle handle = permissionArguments.get(params);
+		if (handle == null) {
+			if (permissionArguments.size() >= MAX_COMPILED_ARGUMENTS) {
+				return permission.playerHas(null, player, params.substring(HAS_PREFIX.length()));
+			}
+			handle = PermissionHandle.of(params.substring(HAS_PREFIX.length()));
+			permissionArguments.put(params, handle);
+		}
+		
+		if (permission instanceof Permission_LuckPerms luckPermsPermission) {
+			return luckPermsPermission.playerHas(null, player, handle);
+		}
+		return permission.playerHas(null, player, handle.permission());
+	}
+
+	/**
+	 * Resolves an {@code ingroup_<group>} placeholder.
+	 * 
+	 * @param player the player (can be null)
+	 * @param params the full placeholder parameters
+	 * @return {@code true} if the player is in the group
+	 */
+	private boolean inGroup(OfflinePlayer player, String params) {
+		Permission permission = VaultServices.permission();
+		if (permission == null || player == null || params.length() == IN_GROUP_PREFIX.length()) {
+			return false;
+		}
+		
+		String group = groupArguments.get(params);
+		if (group == null) {
+			group = params.substring(IN_GROUP_PREFIX.length());
+			if (groupArguments.size() < MAX_COMPILED_ARGUMENTS) {
+				groupArguments.put(params, group);
+			}
+		}
+		return permission.playerInGroup(null, player, group);
+	}
+
+	/**
+	 * Replaces a null value by an empty string.
+	 * 
+	 * @param value the value (can be null)
+	 * @return the value or empty string
+	 */
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * Resolves one fixed placeholder.
+	 */
+	@FunctionalInterface
+	private interface PlaceholderHandler {
+
+		/**
+		 * Resolves the placeholder for a player.
+		 * 
+		 * @param player the player (can be null)
+		 * @return the placeholder value
+		 */
+		String apply(OfflinePlayer player);
 	}
 }
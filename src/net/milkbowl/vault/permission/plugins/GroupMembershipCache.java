@@ -0,0 +1,163 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import net.luckperms.api.model.group.Group;
+
+/**
+ * Per-user cache of resolved group memberships.
+ *
+ * <p>Each entry holds the inherited group names as an immutable array plus a
+ * lowercase hash set, so membership checks are a single set lookup and group
+ * listings return the same array without allocating. Entries are rebuilt only
+ * after LuckPerms recalculates the user or a group changes.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GroupMembershipCache {
+
+    /**
+     * Membership tables indexed by user UUID.
+     */
+    private final Map<UUID, UserMemberships> memberships = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the membership table of a user, creating it if needed.
+     *
+     * <p>As with {@link PermissionDecisionCache}, callers must read and write
+     * through the returned table so stale memberships never survive an
+     * invalidation. Tables are only kept for users LuckPerms has loaded,
+     * since only those receive recalculation events; other users get a
+     * detached table that is discarded after the call.</p>
+     *
+     * @param uniqueId the user UUID
+     * @param loaded tells whether the user is loaded in LuckPerms
+     * @return the user's membership table
+     */
+    public UserMemberships forUser(UUID uniqueId, Predicate<? super UUID> loaded) {
+        UserMemberships userMemberships = memberships.get(uniqueId);
+        if (userMemberships != null) {
+            return userMemberships;
+        }
+        if (!loaded.test(uniqueId)) {
+            return new UserMemberships();
+        }
+        return memberships.computeIfAbsent(uniqueId, id -> new UserMemberships());
+    }
+
+    /**
+     * Drops the cached memberships of a user.
+     *
+     * @param uniqueId the user UUID
+     */
+    public void invalidate(UUID uniqueId) {
+        if (uniqueId != null) {
+            memberships.remove(uniqueId);
+        }
+    }
+
+    /**
+     * Drops the cached memberships of every user.
+     */
+    public void invalidateAll() {
+        memberships.clear();
+    }
+
+    /**
+     * Cached memberships of a single user, per world.
+     */
+    public static final class UserMemberships {
+
+        /**
+         * Membership resolved in the default context.
+         */
+        private volatile Membership global;
+
+        /**
+         * Memberships resolved in a world context, indexed by world name.
+         */
+        private final Map<String, Membership> worlds = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the cached membership for a world.
+         *
+         * @param world the world name, or null for the default context
+         * @return the membership or null if not resolved yet
+         */
+        public Membership get(String world) {
+            return world == null ? global : worlds.get(world);
+        }
+
+        /**
+         * Stores the resolved membership for a world.
+         *
+         * @param world the world name, or null for the default context
+         * @param membership the resolved membership
+         */
+        public void put(String world, Membership membership) {
+            if (world == null) {
+                global = membership;
+            } else {
+                worlds.put(world, membership);
+            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of the groups a user inherits.
+     *
+     * @param names the group names; shared, must not be modified
+     * @param lowerNames the lowercase group names
+     */
+    public record Membership(String[] names, Set<String> lowerNames) {
+
+        /**
+         * Builds a membership snapshot from resolved LuckPerms groups.
+         *
+         * @param groups the inherited groups
+         * @return the membership snapshot
+         */
+        public static Membership of(Collection<Group> groups) {
+            String[] names = new String[groups.size()];
+            String[] lowerNames = new String[names.length];
+            int index = 0;
+            for (Group group : groups) {
+                names[index] = group.getName();
+                lowerNames[index] = group.getName().toLowerCase(Locale.ROOT);
+                index++;
+            }
+            return new Membership(names, Set.copyOf(Arrays.asList(lowerNames)));
+        }
+
+        /**
+         * Checks membership of a group, ignoring case.
+         *
+         * <p>LuckPerms group names are lowercase, so the common case is a
+         * single hash lookup; mixed-case names fall back to a scan without
+         * allocating.</p>
+         *
+         * @param group the group name
+         * @return {@code true} if the group is inherited
+         */
+        public boolean contains(String group) {
+            if (lowerNames.contains(group)) {
+                return true;
+            }
+            for (String name : names) {
+                if (name.equalsIgnoreCase(group)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package net.milkbowl.vault.permission.plugins;
+
+import net.luckperms.api.model.group.Group;
+import net.luckperms.api.model.group.GroupManager;
+
+/**
+ * Copy-on-write snapshot of the names of all loaded LuckPerms groups.
+ *
+ * <p>The snapshot is rebuilt only when groups are created, deleted or
+ * reloaded, so readers get the same array reference on every call without
+ * querying LuckPerms or allocating.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GroupSnapshot {
+
+    /**
+     * LuckPerms group manager the snapshot is built from.
+     */
+    private final GroupManager groupManager;
+
+    /**
+     * Current snapshot of group names.
+     */
+    private volatile String[] names = new String[0];
+
+    /**
+     * Constructs a new snapshot and builds it from the loaded groups.
+     *
+     * @param groupManager the LuckPerms group manager
+     */
+    public GroupSnapshot(GroupManager groupManager) {
+        this.groupManager = groupManager;
+        refresh();
+    }
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return the group names; shared, must not be modified
+     */
+    public String[] get() {
+        return names;
+    }
+
+    /**
+     * Rebuilds the snapshot from the groups currently loaded in LuckPerms.
+     */
+    public void refresh() {
+        this.names = groupManager.getLoadedGroups()
+                .stream()
+                .map(Group::getName)
+                .sorted()
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,324 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.model.PermissionHolder;
+import net.luckperms.api.model.group.Group;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind queue for LuckPerms user and group mutations.
+ *
+ * <p>Mutations are collected per holder for a short window and then applied
+ * together on a dedicated thread: one {@code modifyUser} call per user and
+ * one {@code saveGroup} call per group. Mutations submitted with the same
+ * key inside a window replace each other, so only the last one for a given
+ * node reaches storage.</p>
+ *
+ * <p>Callers return immediately; the future returned on submission
+ * completes once the whole batch has been applied and saved. After
+ * {@link #shutdown()} mutations are applied right away.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class MutationQueue {
+
+    /**
+     * Time mutations are collected before a batch is flushed.
+     */
+    private static final long FLUSH_DELAY_MILLIS = 50;
+
+    /**
+     * Maximum time spent flushing pending batches on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /**
+     * LuckPerms API instance the mutations are applied through.
+     */
+    private final LuckPerms luckPerms;
+
+    /**
+     * Dedicated thread applying the batches.
+     */
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VaultLite-Mutations");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Pending user batches indexed by user UUID.
+     */
+    private final Map<UUID, Batch> userBatches = new ConcurrentHashMap<>();
+
+    /**
+     * Pending group batches indexed by group name.
+     */
+    private final Map<String, Batch> groupBatches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new, empty queue.
+     *
+     * @param luckPerms the LuckPerms API instance
+     */
+    public MutationQueue(LuckPerms luckPerms) {
+        this.luckPerms = luckPerms;
+    }
+
+    /**
+     * Queues a mutation of a user.
+     *
+     * @param uniqueId the user UUID
+     * @param key the coalescing key; a later mutation with the same key replaces this one
+     * @param mutation the mutation to apply to the user
+     * @return a future completed once the batch containing the mutation is saved
+     */
+    public CompletableFuture<Void> submitUser(UUID uniqueId, String key, Consumer<PermissionHolder> mutation) {
+        return submit(userBatches, uniqueId, key, mutation);
+    }
+
+    /**
+     * Queues a mutation of a group.
+     *
+     * @param groupName the group name
+     * @param key the coalescing key; a later mutation with the same key replaces this one
+     * @param mutation the mutation to apply to the group
+     * @return a future completed once the batch containing the mutation is saved
+     */
+    public CompletableFuture<Void> submitGroup(String groupName, String key, Consumer<PermissionHolder> mutation) {
+        return submit(groupBatches, groupName, key, mutation);
+    }
+
+    /**
+     * Applies every pending batch and stops the executor.
+     *
+     * <p>Blocks until all batches are saved or the shutdown timeout expires.</p>
+     */
+    public void shutdown() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        userBatches.forEach((uniqueId, batch) -> pending.add(flushUser(uniqueId, batch)));
+        groupBatches.forEach((groupName, batch) -> pending.add(flushGroup(groupName, batch)));
+        executor.shutdownNow();
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                    .get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException exception) {
+            log.warn("[VaultLite] ⚠ Tempo esgotado ao salvar alterações pendentes do LuckPerms");
+        } catch (Exception exception) {
+            log.warn("[VaultLite] ⚠ Falha ao salvar alterações pendentes do LuckPerms", exception);
+        }
+    }
+
+    /**
+     * Adds a mutation to the holder's batch, scheduling a flush if needed.
+     *
+     * @param batches the batches of the holder type
+     * @param holder the holder key
+     * @param key the coalescing key
+     * @param mutation the mutation
+     * @param <K> the holder key type
+     * @return the future of the batch the mutation joined
+     */
+    private <K> CompletableFuture<Void> submit(Map<K, Batch> batches, K holder, String key,
+                                               Consumer<PermissionHolder> mutation) {
+        while (true) {
+            Batch batch = batches.computeIfAbsent(holder, ignored -> new Batch());
+            synchronized (batch) {
+                if (batch.retired) {
+                    continue;
+                }
+
+                batch.mutations.put(key, mutation);
+                if (!batch.scheduled) {
+                    batch.scheduled = true;
+                    try {
+                        executor.schedule(() -> flush(holder, batch), FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException exception) {
+                        flush(holder, batch);
+                    }
+                }
+                return batch.applied;
+            }
+        }
+    }
+
+    /**
+     * Flushes a batch of the matching holder type.
+     *
+     * @param holder the holder key
+     * @param batch the batch to flush
+     */
+    private void flush(Object holder, Batch batch) {
+        if (holder instanceof UUID uniqueId) {
+            flushUser(uniqueId, batch);
+        } else {
+            flushGroup((String) holder, batch);
+        }
+    }
+
+    /**
+     * Applies a user batch in a single {@code modifyUser} call.
+     *
+     * @param uniqueId the user UUID
+     * @param batch the batch to flush
+     * @return the batch future
+     */
+    private CompletableFuture<Void> flushUser(UUID uniqueId, Batch batch) {
+        Collection<Consumer<PermissionHolder>> mutations = retire(userBatches, uniqueId, batch);
+        if (mutations == null) {
+            return batch.applied;
+        }
+
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try {
+            luckPerms.getUserManager()
+                    .modifyUser(uniqueId, user -> failure.set(applyAll(mutations, user)))
+                    .whenComplete((ignored, error) -> complete(batch, error != null ? error : failure.get(), uniqueId));
+        } catch (RuntimeException exception) {
+            complete(batch, exception, uniqueId);
+        }
+        return batch.applied;
+    }
+
+    /**
+     * Applies a group batch and saves the group once.
+     *
+     * @param groupName the group name
+     * @param batch the batch to flush
+     * @return the batch future
+     */
+    private CompletableFuture<Void> flushGroup(String groupName, Batch batch) {
+        Collection<Consumer<PermissionHolder>> mutations = retire(groupBatches, groupName, batch);
+        if (mutations == null) {
+            return batch.applied;
+        }
+
+        Group group = luckPerms.getGroupManager().getGroup(groupName);
+        if (group == null) {
+            complete(batch, new IllegalArgumentException("Unknown group " + groupName), groupName);
+            return batch.applied;
+        }
+
+        try {
+            RuntimeException failure = applyAll(mutations, group);
+            luckPerms.getGroupManager()
+                    .saveGroup(group)
+                    .whenComplete((ignored, error) -> complete(batch, error != null ? error : failure, groupName));
+        } catch (RuntimeException exception) {
+            complete(batch, exception, groupName);
+        }
+        return batch.applied;
+    }
+
+    /**
+     * Applies every mutation of a batch to a holder.
+     *
+     * <p>A mutation that throws is skipped so the others are still saved;
+     * the failure is returned so the batch future reports it and the
+     * callers drop their pending state.</p>
+     *
+     * @param mutations the mutations to apply
+     * @param holder the user or group
+     * @return the first failure, with later ones suppressed, or null if every mutation applied
+     */
+    private static RuntimeException applyAll(Collection<Consumer<PermissionHolder>> mutations, PermissionHolder holder) {
+        RuntimeException failure = null;
+        for (Consumer<PermissionHolder> mutation : mutations) {
+            try {
+                mutation.accept(holder);
+            } catch (RuntimeException exception) {
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * Detaches a batch from its holder so new mutations start a fresh one.
+     *
+     * @param batches the batches of the holder type
+     * @param holder the holder key
+     * @param batch the batch to retire
+     * @param <K> the holder key type
+     * @return the drained mutations, or null if the batch was already flushed
+     */
+    private <K> Collection<Consumer<PermissionHolder>> retire(Map<K, Batch> batches, K holder, Batch batch) {
+        synchronized (batch) {
+            if (batch.retired) {
+                return null;
+            }
+
+            batch.retired = true;
+            batches.remove(holder, batch);
+            return new ArrayList<>(batch.mutations.values());
+        }
+    }
+
+    /**
+     * Completes a batch future, logging failures.
+     *
+     * @param batch the applied batch
+     * @param error the failure, or null on success
+     * @param holder the holder key, for logging
+     */
+    private void complete(Batch batch, Throwable error, Object holder) {
+        if (error == null) {
+            batch.applied.complete(null);
+            return;
+        }
+
+        log.warn("[VaultLite] ⚠ Falha ao salvar alterações de {} no LuckPerms", holder, error);
+        batch.applied.completeExceptionally(error);
+    }
+
+    /**
+     * Mutations collected for a single holder, guarded by its own monitor.
+     */
+    private static final class Batch {
+
+        /**
+         * Pending mutations indexed by coalescing key, in submission order.
+         */
+        private final Map<String, Consumer<PermissionHolder>> mutations = new LinkedHashMap<>();
+
+        /**
+         * Future completed once the batch is saved.
+         */
+        private final CompletableFuture<Void> applied = new CompletableFuture<>();
+
+        /**
+         * Whether a flush has been scheduled.
+         */
+        private boolean scheduled;
+
+        /**
+         * Whether the batch has been drained and no longer accepts mutations.
+         */
+        private boolean retired;
+    }
+}
@@ -0,0 +1,215 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.bukkit.Bukkit;
+
+import net.luckperms.api.model.user.User;
+import net.luckperms.api.model.user.UserManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of LuckPerms users loaded for offline players.
+ *
+ * <p>Users are loaded through {@link UserManager#loadUser(UUID)} and kept in
+ * an access-ordered LRU map whose entries also expire after a fixed TTL.
+ * Concurrent requests for the same UUID share a single storage load.</p>
+ *
+ * <p>Synchronous reads never block the server thread: on the primary thread
+ * a miss starts the load and returns {@code null}, so the next call is served
+ * from memory. Other threads wait for the load to finish.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class OfflineUserCache {
+
+    /**
+     * Maximum number of offline users kept in memory.
+     */
+    private static final int MAX_SIZE = 512;
+
+    /**
+     * Time after which a cached offline user is reloaded.
+     */
+    private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * LuckPerms user manager used for storage loads.
+     */
+    private final UserManager userManager;
+
+    /**
+     * Callback notified with the UUID of every evicted user.
+     */
+    private final Consumer<UUID> evictionListener;
+
+    /**
+     * Loads in progress indexed by UUID, used to coalesce concurrent requests.
+     */
+    private final Map<UUID, CompletableFuture<User>> pendingLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Access-ordered cache entries, guarded by their own monitor.
+     */
+    private final LinkedHashMap<UUID, CachedUser> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CachedUser> eldest) {
+            if (size() <= MAX_SIZE) {
+                return false;
+            }
+            evicted(eldest.getValue().user());
+            return true;
+        }
+    };
+
+    /**
+     * Constructs a new, empty cache.
+     *
+     * @param userManager the LuckPerms user manager
+     * @param evictionListener callback notified when a user leaves the cache
+     */
+    public OfflineUserCache(UserManager userManager, Consumer<UUID> evictionListener) {
+        this.userManager = userManager;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns a cached user without triggering a load.
+     *
+     * @param uniqueId the user UUID
+     * @return the cached user or null if absent or expired
+     */
+    public User getIfCached(UUID uniqueId) {
+        synchronized (entries) {
+            CachedUser cached = entries.get(uniqueId);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.loadedAt() > TTL_NANOS) {
+                entries.remove(uniqueId);
+                evicted(cached.user());
+                return null;
+            }
+            return cached.user();
+        }
+    }
+
+    /**
+     * Returns a user, loading it from storage on a miss.
+     *
+     * <p>On the primary thread a miss returns {@code null} immediately while
+     * the load continues in the background.</p>
+     *
+     * @param uniqueId the user UUID
+     * @return the user or null if not available yet
+     */
+    public User get(UUID uniqueId) {
+        User cached = getIfCached(uniqueId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<User> load = load(uniqueId);
+        if (Bukkit.isPrimaryThread()) {
+            return load.getNow(null);
+        }
+
+        try {
+            return load.join();
+        } catch (CompletionException exception) {
+            log.warn("[VaultLite] ⚠ Falha ao carregar usuário offline {}", uniqueId, exception.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Loads a user asynchronously, sharing any load already in progress.
+     *
+     * @param uniqueId the user UUID
+     * @return a future completed with the loaded user
+     */
+    public CompletableFuture<User> load(UUID uniqueId) {
+        User cached = getIfCached(uniqueId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<User> created = new CompletableFuture<>();
+        CompletableFuture<User> existing = pendingLoads.putIfAbsent(uniqueId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        userManager.loadUser(uniqueId).whenComplete((user, error) -> {
+            if (user != null) {
+                synchronized (entries) {
+                    entries.put(uniqueId, new CachedUser(user, System.nanoTime()));
+                }
+            }
+            pendingLoads.remove(uniqueId, created);
+
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(user);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Drops a user from the cache.
+     *
+     * @param uniqueId the user UUID
+     */
+    public void invalidate(UUID uniqueId) {
+        synchronized (entries) {
+            CachedUser removed = entries.remove(uniqueId);
+            if (removed != null) {
+                evicted(removed.user());
+            }
+        }
+    }
+
+    /**
+     * Drops every cached user.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            for (CachedUser cached : entries.values()) {
+                evicted(cached.user());
+            }
+            entries.clear();
+        }
+    }
+
+    /**
+     * Releases an evicted user back to LuckPerms and notifies the listener.
+     *
+     * @param user the evicted user
+     */
+    private void evicted(User user) {
+        userManager.cleanupUser(user);
+        evictionListener.accept(user.getUniqueId());
+    }
+
+    /**
+     * A cached user together with its load timestamp.
+     *
+     * @param user the loaded user
+     * @param loadedAt the {@link System#nanoTime()} of the load
+     */
+    private record CachedUser(User user, long loadedAt) {
+    }
+}
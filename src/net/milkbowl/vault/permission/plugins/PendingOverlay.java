@@ -0,0 +1,156 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local overlay of holder changes that are queued but not saved yet.
+ *
+ * <p>Mutations go through the write-behind {@link MutationQueue}, so
+ * LuckPerms only sees them a little later. The overlay makes each change
+ * visible to reads immediately and is cleared entry by entry as batches are
+ * saved. Holders without pending changes cost a single map read.</p>
+ *
+ * <p>Changes are indexed by world and key. Keys are permission nodes or chat
+ * slots and are compared case-insensitively, like LuckPerms does. The value
+ * type is up to the caller: the permission provider records whether a node
+ * is added or removed, the chat provider the pre-parsed meta value.</p>
+ *
+ * @param <K> the holder key type
+ * @param <V> the pending value type
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PendingOverlay<K, V> {
+
+    /**
+     * Pending changes per holder, indexed by world and key.
+     */
+    private final Map<K, Map<ChangeKey, Change<V>>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Records a pending change.
+     *
+     * @param holder the holder key
+     * @param world the world the change applies to, or null for all worlds
+     * @param key the node key or slot
+     * @param value the pending value
+     * @return the change token to pass to {@link #remove(Object, String, String, Change)}
+     */
+    public Change<V> put(K holder, String world, String key, V value) {
+        Change<V> change = new Change<>(value);
+        ChangeKey changeKey = ChangeKey.of(world, key);
+        pending.compute(holder, (ignored, changes) -> {
+            Map<ChangeKey, Change<V>> updated = changes != null ? changes : new ConcurrentHashMap<>();
+            updated.put(changeKey, change);
+            return updated;
+        });
+        return change;
+    }
+
+    /**
+     * Clears a pending change once it has been saved.
+     *
+     * <p>Only the given token is removed, so a newer change for the same
+     * key queued in the meantime stays visible.</p>
+     *
+     * @param holder the holder key
+     * @param world the world the change applies to, or null for all worlds
+     * @param key the node key or slot
+     * @param change the token returned by {@link #put(Object, String, String, Object)}
+     */
+    public void remove(K holder, String world, String key, Change<V> change) {
+        ChangeKey changeKey = ChangeKey.of(world, key);
+        pending.computeIfPresent(holder, (ignored, changes) -> {
+            changes.remove(changeKey, change);
+            return changes.isEmpty() ? null : changes;
+        });
+    }
+
+    /**
+     * Returns the pending value of a key as seen from a world.
+     *
+     * <p>A change scoped to the world takes precedence over a global one.</p>
+     *
+     * @param holder the holder key
+     * @param world the world being checked, or null for the default context
+     * @param key the node key or slot
+     * @return the pending value, or null if nothing is pending
+     */
+    public V get(K holder, String world, String key) {
+        Map<ChangeKey, Change<V>> changes = pending.get(holder);
+        if (changes == null) {
+            return null;
+        }
+
+        String lowerKey = key.toLowerCase(Locale.ROOT);
+        Change<V> change = world == null ? null : changes.get(new ChangeKey(world, lowerKey));
+        if (change == null) {
+            change = changes.get(new ChangeKey(null, lowerKey));
+        }
+        return change == null ? null : change.value();
+    }
+
+    /**
+     * Checks whether a holder has pending changes.
+     *
+     * @param holder the holder key
+     * @return {@code true} if at least one change is pending
+     */
+    public boolean hasPending(K holder) {
+        return pending.containsKey(holder);
+    }
+
+    /**
+     * Identifies a key in a world.
+     *
+     * @param world the world, or null for all worlds
+     * @param key the lowercase node key or slot
+     */
+    private record ChangeKey(String world, String key) {
+
+        /**
+         * Builds the index key of a change, lowercasing it.
+         *
+         * @param world the world, or null for all worlds
+         * @param key the node key or slot
+         * @return the index key
+         */
+        private static ChangeKey of(String world, String key) {
+            return new ChangeKey(world, key.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * A single pending change, compared by identity.
+     *
+     * @param <V> the pending value type
+     */
+    public static final class Change<V> {
+
+        /**
+         * The pending value.
+         */
+        private final V value;
+
+        /**
+         * Constructs a new change.
+         *
+         * @param value the pending value
+         */
+        private Change(V value) {
+            this.value = value;
+        }
+
+        /**
+         * Returns the pending value.
+         *
+         * @return the pending value
+         */
+        public V value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per-holder cache of resolved permission decisions.
+ *
+ * <p>Sits in front of LuckPerms so repeated checks of the same permission
+ * string for the same holder become a single hash lookup. Users are keyed by
+ * UUID and dropped whenever LuckPerms recalculates their data or the player
+ * leaves the server; groups are keyed by name and dropped when groups change.</p>
+ *
+ * <p>Decisions are kept separately for the default context and for each
+ * world, since world-scoped checks may resolve differently. Precompiled
+ * {@link PermissionHandle}s are kept in a separate array indexed by handle
+ * id, and prefix queries use a sorted index of the holder's resolved
+ * permissions.</p>
+ *
+ * <p>Tables are only kept for holders LuckPerms has loaded, since only those
+ * are ever invalidated by its events. Checks against any other holder get a
+ * detached table that is dropped after the check.</p>
+ *
+ * @param <K> the holder key type
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PermissionDecisionCache<K> {
+
+    /**
+     * Per-holder decision tables indexed by holder key.
+     */
+    private final Map<K, HolderEntry> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Number of lookups answered from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of lookups that had to be resolved through LuckPerms.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the decision table of a holder in a world, creating it if needed.
+     *
+     * <p>Callers must read and write through the returned table instead of
+     * fetching it again, so a decision resolved before an invalidation never
+     * lands in the table that replaced it.</p>
+     *
+     * <p>A table is only created for holders that {@code loaded} accepts.
+     * Other holders get a detached table that is not kept, so lookups for
+     * unknown UUIDs or group names never grow the cache.</p>
+     *
+     * @param holder the holder key (user UUID or group name)
+     * @param world the world name, or null for the default context
+     * @param loaded tells whether LuckPerms has the holder loaded
+     * @return the holder's decision table for that world
+     */
+    public Decisions forHolder(K holder, String world, Predicate<? super K> loaded) {
+        HolderEntry entry = decisions.get(holder);
+        if (entry == null) {
+            if (!loaded.test(holder)) {
+                return new Decisions(hits, misses);
+            }
+            entry = decisions.computeIfAbsent(holder, key -> new HolderEntry());
+        }
+        return entry.forWorld(world);
+    }
+
+    /**
+     * Drops all cached decisions of a holder.
+     *
+     * @param holder the holder key
+     */
+    public void invalidate(K holder) {
+        if (holder != null) {
+            decisions.remove(holder);
+        }
+    }
+
+    /**
+     * Drops all cached decisions of every holder.
+     */
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups resolved through LuckPerms.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * All decision tables of a single holder.
+     */
+    private final class HolderEntry {
+
+        /**
+         * Decisions resolved in the default context.
+         */
+        private final Decisions global = new Decisions(hits, misses);
+
+        /**
+         * Decisions resolved in a world context, indexed by world name.
+         */
+        private final Map<String, Decisions> worlds = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the decision table for a world.
+         *
+         * @param world the world name, or null for the default context
+         * @return the decision table
+         */
+        private Decisions forWorld(String world) {
+            if (world == null) {
+                return global;
+            }
+
+            Decisions worldDecisions = worlds.get(world);
+            return worldDecisions != null ? worldDecisions : worlds.computeIfAbsent(world,
+                    name -> new Decisions(hits, misses));
+        }
+    }
+
+    /**
+     * Cached decisions of a single holder in a single context.
+     */
+    public static final class Decisions {
+
+        /**
+         * Handle state of a decision that is not resolved yet.
+         */
+        public static final byte UNKNOWN = 0;
+
+        /**
+         * Handle state of a denied permission.
+         */
+        public static final byte DENIED = 1;
+
+        /**
+         * Handle state of a granted permission.
+         */
+        public static final byte GRANTED = 2;
+
+        /**
+         * Resolved decisions indexed by permission key.
+         */
+        private final Map<String, Boolean> values = new ConcurrentHashMap<>();
+
+        /**
+         * Decisions of {@link PermissionHandle}s indexed by handle id, one of
+         * {@link #UNKNOWN}, {@link #DENIED} or {@link #GRANTED}. Never written
+         * in place: every write copies the array, so the volatile store
+         * publishes the new element to readers.
+         */
+        private volatile byte[] handleStates = new byte[16];
+
+        /**
+         * Sorted index of the holder's resolved permission map, built on the
+         * first prefix query.
+         */
+        private volatile NavigableMap<String, Boolean> sortedIndex;
+
+        /**
+         * Hit counter shared with the owning cache.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Miss counter shared with the owning cache.
+         */
+        private final LongAdder misses;
+
+        /**
+         * Constructs a new, empty table bound to its cache's counters.
+         *
+         * @param hits the shared hit counter
+         * @param misses the shared miss counter
+         */
+        private Decisions(LongAdder hits, LongAdder misses) {
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        /**
+         * Returns a cached decision and records the hit or miss.
+         *
+         * @param permission the permission key
+         * @return the cached decision or null if not resolved yet
+         */
+        public Boolean get(String permission) {
+            Boolean decision = values.get(permission);
+            if (decision == null) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+            return decision;
+        }
+
+        /**
+         * Stores a resolved decision.
+         *
+         * @param permission the permission key
+         * @param decision the resolved decision
+         */
+        public void put(String permission, boolean decision) {
+            values.put(permission, decision);
+        }
+
+        /**
+         * Returns the cached state of a handle and records the hit or miss.
+         *
+         * @param handle the permission handle
+         * @return {@link #GRANTED}, {@link #DENIED} or {@link #UNKNOWN}
+         */
+        public byte get(PermissionHandle handle) {
+            byte[] states = handleStates;
+            int id = handle.id();
+            byte state = id >= 0 && id < states.length ? states[id] : UNKNOWN;
+            if (state == UNKNOWN) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+            return state;
+        }
+
+        /**
+         * Stores the resolved decision of a handle.
+         *
+         * @param handle the permission handle
+         * @param decision the resolved decision
+         */
+        public synchronized void put(PermissionHandle handle, boolean decision) {
+            int id = handle.id();
+            if (id < 0) {
+                return;
+            }
+
+            byte[] states = handleStates;
+            states = Arrays.copyOf(states, id < states.length ? states.length
+                    : Math.min(PermissionHandle.MAX_HANDLES, Math.max(id + 1, states.length * 2)));
+            states[id] = decision ? GRANTED : DENIED;
+            handleStates = states;
+        }
+
+        /**
+         * Returns the sorted permission index, building it on first use.
+         *
+         * <p>Keys are lowercase so prefix queries are case-insensitive.</p>
+         *
+         * @param permissionMap the holder's resolved permission map, read only on a miss
+         * @return the sorted, unmodifiable index
+         */
+        public NavigableMap<String, Boolean> sortedIndex(Supplier<Map<String, Boolean>> permissionMap) {
+            NavigableMap<String, Boolean> index = sortedIndex;
+            if (index != null) {
+                return index;
+            }
+
+            TreeMap<String, Boolean> built = new TreeMap<>();
+            permissionMap.get().forEach((node, value) -> built.put(node.toLowerCase(Locale.ROOT), value));
+            index = Collections.unmodifiableNavigableMap(built);
+            sortedIndex = index;
+            return index;
+        }
+    }
+}
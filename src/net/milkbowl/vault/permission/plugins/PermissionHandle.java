@@ -0,0 +1,139 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precompiled permission string for hot permission checks.
+ *
+ * <p>A handle is compiled once, typically into a static field, and carries a
+ * dense integer id. {@link Permission_LuckPerms} looks handles up in a
+ * per-user array indexed by that id, so a cached check neither hashes nor
+ * compares the permission string.</p>
+ *
+ * <pre>{@code
+ * private static final PermissionHandle BYPASS = PermissionHandle.of("region.bypass");
+ * ...
+ * if (permissions.playerHas(null, player, BYPASS)) { ... }
+ * }</pre>
+ *
+ * <p>The intern table lives as long as the JVM and every id widens the
+ * per-holder arrays, so only compile constants known at plugin startup, never
+ * permissions built from user input. At most {@value #MAX_HANDLES} handles
+ * are interned; past that, {@link #of(String)} returns an uncompiled handle
+ * that is checked like a plain permission string.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PermissionHandle {
+
+    /**
+     * Maximum number of interned handles.
+     */
+    public static final int MAX_HANDLES = 4096;
+
+    /**
+     * Id of a handle that was not interned.
+     */
+    private static final int UNCOMPILED = -1;
+
+    /**
+     * Interned handles indexed by permission string.
+     */
+    private static final Map<String, PermissionHandle> HANDLES = new ConcurrentHashMap<>();
+
+    /**
+     * Source of handle ids.
+     */
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /**
+     * The compiled permission string.
+     */
+    private final String permission;
+
+    /**
+     * The dense handle id.
+     */
+    private final int id;
+
+    /**
+     * Constructs a new handle.
+     *
+     * @param permission the permission string
+     * @param id the handle id
+     */
+    private PermissionHandle(String permission, int id) {
+        this.permission = permission;
+        this.id = id;
+    }
+
+    /**
+     * Returns the handle of a permission, compiling it on first use.
+     *
+     * <p>The same permission string always yields the same handle while the
+     * intern table has room. Once {@value #MAX_HANDLES} handles exist, new
+     * permissions get an uncompiled handle that is not kept.</p>
+     *
+     * @param permission the permission string
+     * @return the interned handle, or an uncompiled one if the table is full
+     */
+    public static PermissionHandle of(String permission) {
+        if (permission == null) {
+            throw new IllegalArgumentException("permission cannot be null");
+        }
+
+        PermissionHandle handle = HANDLES.get(permission);
+        if (handle != null) {
+            return handle;
+        }
+        if (HANDLES.size() >= MAX_HANDLES) {
+            return new PermissionHandle(permission, UNCOMPILED);
+        }
+
+        return HANDLES.computeIfAbsent(permission, key -> {
+            int id = NEXT_ID.getAndIncrement();
+            return new PermissionHandle(key, id < MAX_HANDLES ? id : UNCOMPILED);
+        });
+    }
+
+    /**
+     * Returns the compiled permission string.
+     *
+     * @return the permission string
+     */
+    public String permission() {
+        return permission;
+    }
+
+    /**
+     * Returns the dense handle id.
+     *
+     * @return the handle id, or {@code -1} if the handle is not compiled
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Checks whether the handle was interned and has an id.
+     *
+     * @return {@code true} if the handle is compiled
+     */
+    public boolean isCompiled() {
+        return id != UNCOMPILED;
+    }
+
+    /**
+     * Returns the permission string.
+     *
+     * @return the permission string
+     */
+    @Override
+    public String toString() {
+        return permission;
+    }
+}
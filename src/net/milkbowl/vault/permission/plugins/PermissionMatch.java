@@ -0,0 +1,57 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.OptionalInt;
+
+/**
+ * A granted permission found under a prefix.
+ *
+ * <p>Returned by {@link Permission_LuckPerms#listUnder(String, org.bukkit.OfflinePlayer, String)}.
+ * For {@code homes.limit.} the node {@code homes.limit.5} has the suffix
+ * {@code 5} and the number {@code 5}.</p>
+ *
+ * @param permission the full permission node
+ * @param suffix the part of the node after the prefix
+ * @param number the suffix parsed as a non-negative integer, if it is one
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record PermissionMatch(String permission, String suffix, OptionalInt number) {
+
+    /**
+     * Builds a match, parsing the suffix as a number when possible.
+     *
+     * @param permission the full permission node
+     * @param prefixLength the length of the queried prefix
+     * @return the match
+     */
+    static PermissionMatch of(String permission, int prefixLength) {
+        String suffix = permission.substring(prefixLength);
+        int number = parseNumber(permission, prefixLength);
+        return new PermissionMatch(permission, suffix, number < 0 ? OptionalInt.empty() : OptionalInt.of(number));
+    }
+
+    /**
+     * Parses the tail of a string as a non-negative integer without allocating.
+     *
+     * @param text the text to parse
+     * @param from the index the number starts at
+     * @return the parsed value, or {@code -1} if the tail is not a non-negative integer
+     */
+    static int parseNumber(String text, int from) {
+        int length = text.length() - from;
+        if (length <= 0 || length > 9) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int index = from; index < text.length(); index++) {
+            char digit = text.charAt(index);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+}
@@ -1,21 +1,53 @@
 package net.milkbowl.vault.permission.plugins;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.Plugin;
 
 import net.luckperms.api.LuckPerms;
+import net.luckperms.api.cacheddata.CachedPermissionData;
+import net.luckperms.api.context.DefaultContextKeys;
+import net.luckperms.api.context.ImmutableContextSet;
+import net.luckperms.api.event.group.GroupCreateEvent;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.group.GroupDeleteEvent;
+import net.luckperms.api.event.group.GroupLoadAllEvent;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.PermissionHolder;
+import net.luckperms.api.model.group.Group;
+import net.luckperms.api.node.Node;
+import net.luckperms.api.node.NodeBuilder;
+import net.luckperms.api.node.types.InheritanceNode;
+import net.luckperms.api.node.types.PermissionNode;
 import net.luckperms.api.model.user.User;
 import net.luckperms.api.query.QueryOptions;
+import net.luckperms.api.util.Tristate;
 import net.milkbowl.vault.permission.Permission;
 
-import lombok.Data;
-import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,26 +59,178 @@ import lombok.extern.slf4j.Slf4j;
  * <p>Features:</p>
  * <ul>
  *   <li>Full support for contextual permissions</li>
- *   <li>Integration with LuckPerms groups</li>
- *   <li>Real-time permission checking</li>
- *   <li>World support</li>
- *   <li>Read-only implementation for mutations</li>
+ *   <li>Integration with LuckPerms groups through a cached membership index</li>
+ *   <li>Real-time permission checking backed by a per-user decision cache</li>
+ *   <li>World support through precomputed per-world query options</li>
+ *   <li>Offline player lookups with a bounded, non-blocking user cache</li>
+ *   <li>Allocation-free name to UUID resolution</li>
+ *   <li>Write-behind mutations coalesced per user and group</li>
+ *   <li>In-memory transient permissions</li>
+ *   <li>Precompiled permission handles for hot callers</li>
+ *   <li>Prefix queries over a sorted permission index</li>
  * </ul>
  * 
  * @author VaultLite Team
  * @version 1.0.0
  * @since 1.0.0
  */
-@Data
-@EqualsAndHashCode(callSuper = false)
 @Slf4j
 public final class Permission_LuckPerms extends Permission {
 
+    /**
+     * Shared empty result for group lookups.
+     */
+    private static final String[] NO_GROUPS = new String[0];
+
+    /**
+     * Key prefix of LuckPerms inheritance nodes.
+     */
+    private static final String GROUP_NODE_PREFIX = "group.";
+
+    /**
+     * Minimum number of players for which bulk checks run in parallel.
+     */
+    private static final int PARALLEL_BULK_THRESHOLD = 256;
+
 	/**
 	 * LuckPerms API instance for permission operations.
 	 */
+    @Getter
     private final LuckPerms luckPerms;
 
+    /**
+     * Cache of resolved permission decisions, invalidated by LuckPerms recalculation.
+     */
+    private final PermissionDecisionCache<UUID> decisionCache = new PermissionDecisionCache<>();
+
+    /**
+     * Cache of resolved group permission decisions, cleared whenever a group changes.
+     */
+    private final PermissionDecisionCache<String> groupDecisionCache = new PermissionDecisionCache<>();
+
+    /**
+     * Tells the decision cache which users may get a table.
+     */
+    private final Predicate<UUID> userLoaded = this::isUserLoaded;
+
+    /**
+     * Tells the group decision cache which groups may get a table.
+     */
+    private final Predicate<String> groupLoaded = this::isGroupLoaded;
+
+    /**
+     * Cache of resolved group memberships, invalidated by LuckPerms recalculation.
+     */
+    private final GroupMembershipCache membershipCache = new GroupMembershipCache();
+
+    /**
+     * Precomputed query options for every loaded world, shared with the chat provider.
+     */
+    @Getter
+    private final WorldQueryOptions worldQueryOptions;
+
+    /**
+     * Bounded cache of users loaded from storage for offline players.
+     */
+    private final OfflineUserCache offlineUsers;
+
+    /**
+     * Name to UUID index backing every name-based lookup.
+     */
+    private final PlayerNameIndex nameIndex;
+
+    /**
+     * Snapshot of all group names, refreshed on group lifecycle events.
+     */
+    private final GroupSnapshot groupSnapshot;
+
+    /**
+     * Write-behind queue applying player and group mutations, shared with the chat provider.
+     */
+    @Getter
+    private final MutationQueue mutationQueue;
+
+    /**
+     * Queued user changes not yet saved to LuckPerms: {@code true} for an
+     * added node, {@code false} for a removed one. A removal means the user
+     * loses its own node, not that the permission is denied.
+     */
+    private final PendingOverlay<UUID, Boolean> userOverlay = new PendingOverlay<>();
+
+    /**
+     * Queued group changes not yet saved to LuckPerms.
+     */
+    private final PendingOverlay<String, Boolean> groupOverlay = new PendingOverlay<>();
+
+    /**
+     * Transient permissions granted through Vault, cleared on quit.
+     */
+    private final TransientPermissions transientPermissions = new TransientPermissions();
+
+    /**
+     * Constructs a new instance of the Permission Provider for LuckPerms.
+     * 
+     * <p>Subscribes to LuckPerms recalculation events and registers the
+     * listeners that keep the decision cache and the per-world query options
+     * consistent.</p>
+     * 
+     * @param plugin the plugin instance
+     * @param luckPerms the LuckPerms API instance
+     */
+    public Permission_LuckPerms(Plugin plugin, LuckPerms luckPerms) {
+        this.plugin = plugin;
+        this.luckPerms = luckPerms;
+        this.worldQueryOptions = new WorldQueryOptions(luckPerms);
+        this.offlineUsers = luckPerms == null ? null
+                : new OfflineUserCache(luckPerms.getUserManager(), this::invalidateUser);
+        this.nameIndex = luckPerms == null ? null : new PlayerNameIndex(luckPerms.getUserManager());
+        this.groupSnapshot = luckPerms == null ? null : new GroupSnapshot(luckPerms.getGroupManager());
+        this.mutationQueue = luckPerms == null ? null : new MutationQueue(luckPerms);
+
+        if (plugin != null && luckPerms != null) {
+            for (World world : Bukkit.getWorlds()) {
+                worldQueryOptions.load(world.getName());
+            }
+            
+            luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                    event -> invalidateUser(event.getUser().getUniqueId()));
+            luckPerms.getEventBus().subscribe(plugin, GroupDataRecalculateEvent.class,
+                    event -> invalidateGroups());
+            luckPerms.getEventBus().subscribe(plugin, NodeMutateEvent.class, event -> {
+                if (event.isGroup()) {
+                    invalidateGroups();
+                }
+            });
+            luckPerms.getEventBus().subscribe(plugin, GroupCreateEvent.class, event -> groupSnapshot.refresh());
+            luckPerms.getEventBus().subscribe(plugin, GroupDeleteEvent.class, event -> groupSnapshot.refresh());
+            luckPerms.getEventBus().subscribe(plugin, GroupLoadAllEvent.class, event -> groupSnapshot.refresh());
+            Bukkit.getServer().getPluginManager().registerEvents(new PermissionServerListener(), plugin);
+        }
+    }
+
+    /**
+     * Drops every cached entry of a user.
+     * 
+     * @param uniqueId the user UUID
+     */
+    private void invalidateUser(UUID uniqueId) {
+        decisionCache.invalidate(uniqueId);
+        membershipCache.invalidate(uniqueId);
+    }
+
+    /**
+     * Drops every cached group decision and every user entry after a group change.
+     * 
+     * <p>A change to one group also affects the groups and users inheriting
+     * it, and LuckPerms recalculates those lazily, so all entries are dropped
+     * rather than only the changed group's.</p>
+     */
+    private void invalidateGroups() {
+        groupDecisionCache.invalidateAll();
+        decisionCache.invalidateAll();
+        membershipCache.invalidateAll();
+    }
+
     /**
      * Returns the permission provider name.
      * 
@@ -80,14 +264,14 @@ public final class Permission_LuckPerms extends Permission {
     /**
      * Returns the list of available groups.
      * 
-     * <p>Note: This implementation returns an empty array since group
-     * retrieval should be done directly through the LuckPerms API.</p>
+     * <p>Served from a snapshot refreshed only when groups are created,
+     * deleted or reloaded, so every call returns the same array.</p>
      * 
-     * @return empty array of groups
+     * @return array with all group names; shared, must not be modified
      */
     @Override
     public String[] getGroups() {
-        return new String[0];
+        return groupSnapshot == null ? NO_GROUPS : groupSnapshot.get();
     }
 
     /**
@@ -114,17 +298,12 @@ public final class Permission_LuckPerms extends Permission {
             return false;
         }
         
-        Player player = Bukkit.getPlayerExact(playerName);
-        if (player == null) {
+        UUID uniqueId = nameIndex.resolve(playerName);
+        if (uniqueId == null) {
             return false;
         }
         
-        User luckPermsUser = luckPerms.getPlayerAdapter(Player.class)
-                .getUser(player);
-        return luckPermsUser.getCachedData()
-                .getPermissionData(QueryOptions.defaultContextualOptions())
-                .checkPermission(permission)
-                .asBoolean();
+        return cachedCheck(uniqueId, world, permission);
     }
 
     /**
@@ -143,53 +322,610 @@ public final class Permission_LuckPerms extends Permission {
     /**
      * Checks if an offline player has a specific permission.
      * 
+     * <p>Offline players are loaded from LuckPerms storage. On the server
+     * thread the first check of an uncached offline player returns
+     * {@code false} while the load runs; use
+     * {@link #playerHasAsync(String, OfflinePlayer, String)} to wait for it.</p>
+     * 
      * @param player the offline player
      * @param permission the permission to check
      * @return {@code true} if the player has the permission, {@code false} otherwise
      */
     public boolean playerHas(OfflinePlayer player, String permission) {
-        if (player == null || permission == null) {
+        return playerHas((String) null, player, permission);
+    }
+
+    /**
+     * Checks if an offline player has a specific permission in a world.
+     * 
+     * @param world the world to check the permission in (can be null)
+     * @param player the offline player
+     * @param permission the permission to check
+     * @return {@code true} if the player has the permission, {@code false} otherwise
+     */
+    @Override
+    public boolean playerHas(String world, OfflinePlayer player, String permission) {
+        if (player == null || permission == null || luckPerms == null) {
+            return false;
+        }
+        
+        return cachedCheck(player.getUniqueId(), world, permission);
+    }
+
+    /**
+     * Checks asynchronously if an offline player has a specific permission.
+     * 
+     * <p>The returned future completes once the player's data is available,
+     * without blocking the calling thread on storage I/O.</p>
+     * 
+     * @param world the world to check the permission in (can be null)
+     * @param player the offline player
+     * @param permission the permission to check
+     * @return a future completed with the permission check result
+     */
+    public CompletableFuture<Boolean> playerHasAsync(String world, OfflinePlayer player, String permission) {
+        if (player == null || permission == null || luckPerms == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        
+        UUID uniqueId = player.getUniqueId();
+        return loadUser(uniqueId).thenApply(user -> user != null && cachedCheck(uniqueId, world, permission));
+    }
+
+    /**
+     * Checks a precompiled permission for a player.
+     * 
+     * <p>Cached decisions are read from a per-user array indexed by the
+     * handle id, so hot callers skip hashing the permission string.</p>
+     * 
+     * @param world the world to check the permission in (can be null)
+     * @param player the player
+     * @param handle the precompiled permission
+     * @return {@code true} if the player has the permission, {@code false} otherwise
+     */
+    public boolean playerHas(String world, OfflinePlayer player, PermissionHandle handle) {
+        if (player == null || handle == null || luckPerms == null) {
             return false;
         }
+        if (!handle.isCompiled()) {
+            return cachedCheck(player.getUniqueId(), world, handle.permission());
+        }
+        
+        UUID uniqueId = player.getUniqueId();
+        String permission = handle.permission();
+        if (transientPermissions.has(uniqueId, permission)) {
+            return true;
+        }
+        
+        Boolean pending = userOverlay.get(uniqueId, world, permission);
+        if (pending != null) {
+            return pending || inheritedDecision(userOf(uniqueId), world, permission);
+        }
+        
+        PermissionDecisionCache.Decisions userDecisions = decisionCache.forHolder(uniqueId, world, userLoaded);
+        byte state = userDecisions.get(handle);
+        if (state != PermissionDecisionCache.Decisions.UNKNOWN) {
+            return state == PermissionDecisionCache.Decisions.GRANTED;
+        }
         
-        Player online = player.getPlayer();
-        if (online == null) {
+        User luckPermsUser = userOf(uniqueId);
+        if (luckPermsUser == null) {
             return false;
         }
         
-        User luckPermsUser = luckPerms.getPlayerAdapter(Player.class)
-                .getUser(online);
-        return luckPermsUser.getCachedData()
-                .getPermissionData(QueryOptions.defaultContextualOptions())
+        boolean decision = luckPermsUser.getCachedData()
+                .getPermissionData(worldQueryOptions.forWorld(world))
                 .checkPermission(permission)
                 .asBoolean();
+        userDecisions.put(handle, decision);
+        return decision;
+    }
+
+    /**
+     * Checks a precompiled permission for a player in the default context.
+     * 
+     * @param player the player
+     * @param handle the precompiled permission
+     * @return {@code true} if the player has the permission, {@code false} otherwise
+     */
+    public boolean playerHas(OfflinePlayer player, PermissionHandle handle) {
+        return playerHas((String) null, player, handle);
+    }
+
+    /**
+     * Checks whether a player has any granted permission under a prefix.
+     * 
+     * <p>Prefix queries run against a sorted index of the player's resolved
+     * permissions, built once per recalculation. Transient permissions and
+     * queued changes are not part of the index.</p>
+     * 
+     * @param world the world to resolve permissions in (can be null)
+     * @param player the player
+     * @param prefix the node prefix, including the trailing dot (e.g. {@code homes.limit.})
+     * @return {@code true} if at least one granted node starts with the prefix
+     */
+    public boolean hasAnyUnder(String world, OfflinePlayer player, String prefix) {
+        String lowerPrefix = prefix == null ? null : prefix.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Boolean> entry : indexUnder(world, player, lowerPrefix).entrySet()) {
+            if (!entry.getKey().startsWith(lowerPrefix)) {
+                break;
+            }
+            if (entry.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists all granted permissions of a player under a prefix.
+     * 
+     * @param world the world to resolve permissions in (can be null)
+     * @param player the player
+     * @param prefix the node prefix, including the trailing dot (e.g. {@code homes.limit.})
+     * @return the granted nodes in lexical order, with their suffix and parsed number
+     */
+    public List<PermissionMatch> listUnder(String world, OfflinePlayer player, String prefix) {
+        String lowerPrefix = prefix == null ? null : prefix.toLowerCase(Locale.ROOT);
+        List<PermissionMatch> matches = new ArrayList<>();
+        for (Map.Entry<String, Boolean> entry : indexUnder(world, player, lowerPrefix).entrySet()) {
+            if (!entry.getKey().startsWith(lowerPrefix)) {
+                break;
+            }
+            if (entry.getValue()) {
+                matches.add(PermissionMatch.of(entry.getKey(), lowerPrefix.length()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the highest number granted under a prefix.
+     * 
+     * <p>Replaces loops such as checking {@code homes.limit.1} through
+     * {@code homes.limit.100} with a single ordered scan.</p>
+     * 
+     * @param world the world to resolve permissions in (can be null)
+     * @param player the player
+     * @param prefix the node prefix, including the trailing dot (e.g. {@code homes.limit.})
+     * @param defaultValue the value returned when no numeric node is granted
+     * @return the highest granted number, or the default value
+     */
+    public int highestNumberUnder(String world, OfflinePlayer player, String prefix, int defaultValue) {
+        String lowerPrefix = prefix == null ? null : prefix.toLowerCase(Locale.ROOT);
+        int highest = -1;
+        for (Map.Entry<String, Boolean> entry : indexUnder(world, player, lowerPrefix).entrySet()) {
+            if (!entry.getKey().startsWith(lowerPrefix)) {
+                break;
+            }
+            if (entry.getValue()) {
+                highest = Math.max(highest, PermissionMatch.parseNumber(entry.getKey(), lowerPrefix.length()));
+            }
+        }
+        return highest < 0 ? defaultValue : highest;
+    }
+
+    /**
+     * Returns the player's sorted permission index starting at a prefix.
+     * 
+     * @param world the world to resolve permissions in (can be null)
+     * @param player the player (can be null)
+     * @param lowerPrefix the lowercase prefix (can be null)
+     * @return the index entries from the prefix onwards, or an empty map
+     */
+    private NavigableMap<String, Boolean> indexUnder(String world, OfflinePlayer player, String lowerPrefix) {
+        if (player == null || lowerPrefix == null || luckPerms == null) {
+            return Collections.emptyNavigableMap();
+        }
+        
+        UUID uniqueId = player.getUniqueId();
+        User luckPermsUser = userOf(uniqueId);
+        if (luckPermsUser == null) {
+            return Collections.emptyNavigableMap();
+        }
+        
+        return decisionCache.forHolder(uniqueId, world, userLoaded)
+                .sortedIndex(() -> luckPermsUser.getCachedData()
+                        .getPermissionData(worldQueryOptions.forWorld(world))
+                        .getPermissionMap())
+                .tailMap(lowerPrefix, true);
+    }
+
+    /**
+     * Checks one permission for many players at once.
+     * 
+     * <p>Each player's decision comes from the decision cache or from the
+     * player's cached permission data, without name or adapter lookups.
+     * Players that are neither online nor already cached are reported as not
+     * having the permission; no storage load is started. Lists of at least
+     * {@value #PARALLEL_BULK_THRESHOLD} players are checked in parallel on
+     * the common fork-join pool.</p>
+     * 
+     * @param world the world to check the permission in (can be null)
+     * @param players the players to check
+     * @param permission the permission to check
+     * @return a bit set where bit {@code i} is set if {@code players.get(i)} has the permission
+     */
+    public BitSet playersHave(String world, List<? extends OfflinePlayer> players, String permission) {
+        int size = players == null ? 0 : players.size();
+        BitSet result = new BitSet(size);
+        if (size == 0 || permission == null || luckPerms == null) {
+            return result;
+        }
+        
+        OfflinePlayer[] checked = players.toArray(new OfflinePlayer[0]);
+        if (checked.length < PARALLEL_BULK_THRESHOLD) {
+            for (int index = 0; index < checked.length; index++) {
+                if (loadedCheck(checked[index], world, permission)) {
+                    result.set(index);
+                }
+            }
+            return result;
+        }
+        
+        boolean[] granted = new boolean[checked.length];
+        IntStream.range(0, checked.length)
+                .parallel()
+                .forEach(index -> granted[index] = loadedCheck(checked[index], world, permission));
+        for (int index = 0; index < granted.length; index++) {
+            if (granted[index]) {
+                result.set(index);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks many permissions for one player at once.
+     * 
+     * <p>The player's user and cached permission data are resolved once and
+     * reused for every permission that is not in the decision cache yet.</p>
+     * 
+     * @param world the world to check the permissions in (can be null)
+     * @param player the player
+     * @param permissions the permissions to check
+     * @return an array where element {@code i} tells whether the player has {@code permissions[i]}
+     */
+    public boolean[] playerHasEach(String world, OfflinePlayer player, String... permissions) {
+        boolean[] results = new boolean[permissions == null ? 0 : permissions.length];
+        if (player == null || results.length == 0 || luckPerms == null) {
+            return results;
+        }
+        
+        UUID uniqueId = player.getUniqueId();
+        PermissionDecisionCache.Decisions userDecisions = decisionCache.forHolder(uniqueId, world, userLoaded);
+        CachedPermissionData permissionData = null;
+        for (int index = 0; index < results.length; index++) {
+            String permission = permissions[index];
+            if (permission == null) {
+                continue;
+            }
+            
+            Boolean quick = quickDecision(uniqueId, world, permission, userDecisions, false);
+            if (quick != null) {
+                results[index] = quick;
+                continue;
+            }
+            
+            if (permissionData == null) {
+                User luckPermsUser = userOf(uniqueId);
+                if (luckPermsUser == null) {
+                    return results;
+                }
+                permissionData = luckPermsUser.getCachedData().getPermissionData(worldQueryOptions.forWorld(world));
+            }
+            results[index] = resolve(permissionData, userDecisions, permission);
+        }
+        return results;
+    }
+
+    /**
+     * Checks a permission through the decision cache, falling back to LuckPerms on a miss.
+     * 
+     * <p>Transient permissions and queued changes are consulted first.</p>
+     * 
+     * @param uniqueId the player UUID
+     * @param world the world to check the permission in (can be null)
+     * @param permission the permission to check
+     * @return {@code true} if the player has the permission, {@code false} otherwise
+     */
+    private boolean cachedCheck(UUID uniqueId, String world, String permission) {
+        PermissionDecisionCache.Decisions userDecisions = decisionCache.forHolder(uniqueId, world, userLoaded);
+        Boolean quick = quickDecision(uniqueId, world, permission, userDecisions, false);
+        if (quick != null) {
+            return quick;
+        }
+        
+        User luckPermsUser = userOf(uniqueId);
+        if (luckPermsUser == null) {
+            return false;
+        }
+        
+        return resolve(luckPermsUser.getCachedData().getPermissionData(worldQueryOptions.forWorld(world)),
+                userDecisions, permission);
+    }
+
+    /**
+     * Checks a permission like {@link #cachedCheck(UUID, String, String)}, but
+     * only against users already in memory.
+     * 
+     * @param player the player (can be null)
+     * @param world the world to check the permission in (can be null)
+     * @param permission the permission to check
+     * @return {@code true} if the player has the permission, {@code false} otherwise
+     */
+    private boolean loadedCheck(OfflinePlayer player, String world, String permission) {
+        if (player == null) {
+            return false;
+        }
+        
+        UUID uniqueId = player.getUniqueId();
+        PermissionDecisionCache.Decisions userDecisions = decisionCache.forHolder(uniqueId, world, userLoaded);
+        Boolean quick = quickDecision(uniqueId, world, permission, userDecisions, true);
+        if (quick != null) {
+            return quick;
+        }
+        
+        User luckPermsUser = loadedUserOf(uniqueId);
+        if (luckPermsUser == null) {
+            return false;
+        }
+        
+        return resolve(luckPermsUser.getCachedData().getPermissionData(worldQueryOptions.forWorld(world)),
+                userDecisions, permission);
+    }
+
+    /**
+     * Answers a permission check from memory, without touching LuckPerms.
+     * 
+     * <p>Transient permissions win over queued changes, which win over
+     * cached decisions. A queued removal falls through to the permission
+     * the player inherits from groups.</p>
+     * 
+     * @param uniqueId the player UUID
+     * @param world the world to check the permission in (can be null)
+     * @param permission the permission to check
+     * @param userDecisions the player's decision table for the world
+     * @param loadedOnly whether a queued removal may only consult users already in memory
+     * @return the decision, or null if it must be resolved through LuckPerms
+     */
+    private Boolean quickDecision(UUID uniqueId, String world, String permission,
+                                  PermissionDecisionCache.Decisions userDecisions, boolean loadedOnly) {
+        if (transientPermissions.has(uniqueId, permission)) {
+            return Boolean.TRUE;
+        }
+        
+        Boolean pending = userOverlay.get(uniqueId, world, permission);
+        if (pending == null) {
+            return userDecisions.get(permission);
+        }
+        return pending || inheritedDecision(loadedOnly ? loadedUserOf(uniqueId) : userOf(uniqueId), world, permission);
+    }
+
+    /**
+     * Resolves a permission from a holder's inherited groups only, ignoring its own nodes.
+     * 
+     * <p>Used while removing one of the holder's own nodes is still queued:
+     * LuckPerms still holds the old node, so the holder's own data would
+     * report it. Groups are consulted in inheritance order and the first one
+     * that sets the permission decides. Nothing is cached.</p>
+     * 
+     * @param holder the user or group (can be null)
+     * @param world the world to check the permission in (can be null)
+     * @param permission the permission to check
+     * @return {@code true} if an inherited group grants the permission
+     */
+    private boolean inheritedDecision(PermissionHolder holder, String world, String permission) {
+        if (holder == null) {
+            return false;
+        }
+        
+        QueryOptions options = worldQueryOptions.forWorld(world);
+        for (Group group : holder.getInheritedGroups(options)) {
+            Tristate result = group.getCachedData().getPermissionData(options).checkPermission(permission);
+            if (result != Tristate.UNDEFINED) {
+                return result.asBoolean();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves a permission from LuckPerms data and caches the decision.
+     * 
+     * @param permissionData the holder's cached permission data
+     * @param decisions the decision table to store the result in
+     * @param permission the permission to check
+     * @return {@code true} if the permission is granted, {@code false} otherwise
+     */
+    private static boolean resolve(CachedPermissionData permissionData,
+                                   PermissionDecisionCache.Decisions decisions, String permission) {
+        boolean decision = permissionData.checkPermission(permission).asBoolean();
+        decisions.put(permission, decision);
+        return decision;
+    }
+
+    /**
+     * Gets the LuckPerms user of a player, online or offline.
+     * 
+     * <p>Online players are always loaded in LuckPerms. Offline players are
+     * served from the offline user cache, which never blocks the server thread.</p>
+     * 
+     * @param uniqueId the player UUID
+     * @return the LuckPerms user or null if not available yet
+     */
+    private User userOf(UUID uniqueId) {
+        User loaded = luckPerms.getUserManager().getUser(uniqueId);
+        return loaded != null ? loaded : offlineUsers.get(uniqueId);
+    }
+
+    /**
+     * Gets the LuckPerms user of a player only if it is already in memory.
+     * 
+     * <p>Unlike {@link #userOf(UUID)}, never starts an offline user load.</p>
+     * 
+     * @param uniqueId the player UUID
+     * @return the LuckPerms user or null if neither loaded nor cached
+     */
+    private User loadedUserOf(UUID uniqueId) {
+        User loaded = luckPerms.getUserManager().getUser(uniqueId);
+        return loaded != null ? loaded : offlineUsers.getIfCached(uniqueId);
+    }
+
+    /**
+     * Gets the LuckPerms user of a player for the chat provider.
+     * 
+     * <p>Lets chat lookups share this provider's offline user cache instead
+     * of loading offline users on their own. Never blocks; an offline user
+     * that is still loading is reported as null.</p>
+     * 
+     * @param uniqueId the player UUID
+     * @return the LuckPerms user or null if not available yet
+     */
+    public User getUser(UUID uniqueId) {
+        return uniqueId == null || luckPerms == null ? null : userOf(uniqueId);
+    }
+
+    /**
+     * Checks whether LuckPerms or the offline user cache holds a user.
+     * 
+     * <p>Only such users get a decision table, since only they are ever
+     * invalidated by LuckPerms events or cache evictions.</p>
+     * 
+     * @param uniqueId the player UUID
+     * @return {@code true} if the user is loaded
+     */
+    private boolean isUserLoaded(UUID uniqueId) {
+        return luckPerms.getUserManager().isLoaded(uniqueId) || offlineUsers.getIfCached(uniqueId) != null;
+    }
+
+    /**
+     * Checks whether LuckPerms has a group loaded.
+     * 
+     * @param group the group name
+     * @return {@code true} if the group is loaded
+     */
+    private boolean isGroupLoaded(String group) {
+        return luckPerms.getGroupManager().isLoaded(group);
+    }
+
+    /**
+     * Loads the LuckPerms user of a player, online or offline, without blocking.
+     * 
+     * @param uniqueId the player UUID
+     * @return a future completed with the LuckPerms user
+     */
+    private CompletableFuture<User> loadUser(UUID uniqueId) {
+        User loaded = luckPerms.getUserManager().getUser(uniqueId);
+        return loaded != null ? CompletableFuture.completedFuture(loaded) : offlineUsers.load(uniqueId);
+    }
+
+    /**
+     * Returns the number of permission checks answered from the decision cache.
+     * 
+     * @return the cache hit count
+     */
+    public long getCacheHits() {
+        return decisionCache.getHits();
+    }
+
+    /**
+     * Returns the number of permission checks that had to be resolved through LuckPerms.
+     * 
+     * @return the cache miss count
+     */
+    public long getCacheMisses() {
+        return decisionCache.getMisses();
     }
 
     /**
      * Returns all groups of a player.
      * 
-     * @param world the world (not used in LuckPerms)
+     * @param world the world to resolve inherited groups in (can be null)
      * @param playerName the player name
-     * @return array with the player's group names
+     * @return array with the player's group names; shared, must not be modified
      */
     @Override
     public String[] getPlayerGroups(String world, String playerName) {
-        if (playerName == null) {
-            return new String[0];
+        if (playerName == null || luckPerms == null) {
+            return NO_GROUPS;
         }
         
-        Player player = Bukkit.getPlayerExact(playerName);
-        if (player == null) {
-            return new String[0];
+        UUID uniqueId = nameIndex.resolve(playerName);
+        if (uniqueId == null) {
+            return NO_GROUPS;
+        }
+        
+        return groupsOf(uniqueId, world);
+    }
+
+    /**
+     * Returns all groups of an offline player.
+     * 
+     * @param world the world to resolve inherited groups in (can be null)
+     * @param player the offline player
+     * @return array with the player's group names; shared, must not be modified
+     */
+    @Override
+    public String[] getPlayerGroups(String world, OfflinePlayer player) {
+        if (player == null || luckPerms == null) {
+            return NO_GROUPS;
+        }
+        
+        return groupsOf(player.getUniqueId(), world);
+    }
+
+    /**
+     * Returns asynchronously all groups of an offline player.
+     * 
+     * @param world the world to resolve inherited groups in (can be null)
+     * @param player the offline player
+     * @return a future completed with the player's group names
+     */
+    public CompletableFuture<String[]> getPlayerGroupsAsync(String world, OfflinePlayer player) {
+        if (player == null || luckPerms == null) {
+            return CompletableFuture.completedFuture(NO_GROUPS);
         }
         
-        User luckPermsUser = luckPerms.getPlayerAdapter(Player.class)
-                .getUser(player);
-        List<String> playerGroups = luckPermsUser.getInheritedGroups(QueryOptions.defaultContextualOptions())
-                .stream()
-                .map(group -> group.getName())
-                .toList();
-        return playerGroups.toArray(new String[0]);
+        UUID uniqueId = player.getUniqueId();
+        return loadUser(uniqueId).thenApply(user -> user == null ? NO_GROUPS : groupsOf(uniqueId, world));
+    }
+
+    /**
+     * Resolves the inherited group names of a user.
+     * 
+     * @param uniqueId the player UUID
+     * @param world the world to resolve inherited groups in (can be null)
+     * @return array with the user's group names
+     */
+    private String[] groupsOf(UUID uniqueId, String world) {
+        GroupMembershipCache.Membership membership = membershipOf(uniqueId, world);
+        return membership == null ? NO_GROUPS : membership.names();
+    }
+
+    /**
+     * Returns the cached group membership of a user, resolving it on a miss.
+     * 
+     * @param uniqueId the player UUID
+     * @param world the world to resolve inherited groups in (can be null)
+     * @return the membership or null if the user is not available
+     */
+    private GroupMembershipCache.Membership membershipOf(UUID uniqueId, String world) {
+        GroupMembershipCache.UserMemberships userMemberships = membershipCache.forUser(uniqueId, userLoaded);
+        GroupMembershipCache.Membership membership = userMemberships.get(world);
+        if (membership != null) {
+            return membership;
+        }
+        
+        User luckPermsUser = userOf(uniqueId);
+        if (luckPermsUser == null) {
+            return null;
+        }
+        
+        membership = GroupMembershipCache.Membership.of(
+                luckPermsUser.getInheritedGroups(worldQueryOptions.forWorld(world)));
+        userMemberships.put(world, membership);
+        return membership;
     }
 
     /**
@@ -201,18 +937,16 @@ public final class Permission_LuckPerms extends Permission {
      */
     @Override
     public String getPrimaryGroup(String world, String playerName) {
-        if (playerName == null) {
+        if (playerName == null || luckPerms == null) {
             return null;
         }
         
-        Player player = Bukkit.getPlayerExact(playerName);
-        if (player == null) {
+        UUID uniqueId = nameIndex.resolve(playerName);
+        if (uniqueId == null) {
             return null;
         }
         
-        return luckPerms.getPlayerAdapter(Player.class)
-                .getUser(player)
-                .getPrimaryGroup();
+        return primaryGroupOf(userOf(uniqueId));
     }
 
     /**
@@ -222,162 +956,524 @@ public final class Permission_LuckPerms extends Permission {
      * @return the primary group name or null if not found
      */
     public String getPrimaryGroup(OfflinePlayer player) {
-        if (player == null) {
+        return getPrimaryGroup((String) null, player);
+    }
+
+    /**
+     * Returns the primary group of an offline player.
+     * 
+     * @param world the world (not used in LuckPerms)
+     * @param player the offline player
+     * @return the primary group name or null if not found
+     */
+    @Override
+    public String getPrimaryGroup(String world, OfflinePlayer player) {
+        if (player == null || luckPerms == null) {
             return null;
         }
         
-        Player online = player.getPlayer();
-        if (online == null) {
-            return null;
+        return primaryGroupOf(userOf(player.getUniqueId()));
+    }
+
+    /**
+     * Returns asynchronously the primary group of an offline player.
+     * 
+     * @param player the offline player
+     * @return a future completed with the primary group name or null if not found
+     */
+    public CompletableFuture<String> getPrimaryGroupAsync(OfflinePlayer player) {
+        if (player == null || luckPerms == null) {
+            return CompletableFuture.completedFuture(null);
         }
         
-        return luckPerms.getPlayerAdapter(Player.class)
-                .getUser(online)
-                .getPrimaryGroup();
+        return loadUser(player.getUniqueId()).thenApply(this::primaryGroupOf);
+    }
+
+    /**
+     * Resolves the primary group of a user.
+     * 
+     * @param luckPermsUser the LuckPerms user (can be null)
+     * @return the primary group name or null if not found
+     */
+    private String primaryGroupOf(User luckPermsUser) {
+        return luckPermsUser == null ? null : luckPermsUser.getPrimaryGroup();
     }
 
     /**
      * Checks if a player is in a specific group.
      * 
-     * @param world the world (not used in LuckPerms)
+     * @param world the world to resolve inherited groups in (can be null)
      * @param playerName the player name
      * @param group the group name
      * @return {@code true} if the player is in the group, {@code false} otherwise
      */
     @Override
     public boolean playerInGroup(String world, String playerName, String group) {
-        if (playerName == null || group == null) {
+        if (playerName == null || group == null || luckPerms == null) {
             return false;
         }
         
-        Player player = Bukkit.getPlayerExact(playerName);
-        if (player == null) {
+        UUID uniqueId = nameIndex.resolve(playerName);
+        if (uniqueId == null) {
+            return false;
+        }
+        
+        return inGroup(uniqueId, world, group);
+    }
+
+    /**
+     * Checks if an offline player is in a specific group.
+     * 
+     * @param world the world to resolve inherited groups in (can be null)
+     * @param player the offline player
+     * @param group the group name
+     * @return {@code true} if the player is in the group, {@code false} otherwise
+     */
+    @Override
+    public boolean playerInGroup(String world, OfflinePlayer player, String group) {
+        if (player == null || group == null || luckPerms == null) {
             return false;
         }
         
-        User luckPermsUser = luckPerms.getPlayerAdapter(Player.class)
-                .getUser(player);
-                
-        return luckPermsUser.getInheritedGroups(QueryOptions.defaultContextualOptions())
-                .stream()
-                .anyMatch(playerGroup -> playerGroup.getName().equalsIgnoreCase(group));
+        return inGroup(player.getUniqueId(), world, group);
+    }
+
+    /**
+     * Checks if a user inherits a specific group.
+     * 
+     * @param uniqueId the player UUID
+     * @param world the world to resolve inherited groups in (can be null)
+     * @param group the group name
+     * @return {@code true} if the user is in the group, {@code false} otherwise
+     */
+    private boolean inGroup(UUID uniqueId, String world, String group) {
+        if (userOverlay.hasPending(uniqueId)) {
+            Boolean pending = userOverlay.get(uniqueId, world, GROUP_NODE_PREFIX + group.toLowerCase(Locale.ROOT));
+            if (pending != null) {
+                return pending;
+            }
+        }
+        
+        GroupMembershipCache.Membership membership = membershipOf(uniqueId, world);
+        return membership != null && membership.contains(group);
     }
 
     /**
-     * Adds a permission to a player (not implemented - read-only).
+     * Adds a permission to a player.
+     * 
+     * <p>The change is queued on the write-behind pipeline and visible to
+     * permission checks immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the permission to (can be null)
      * @param player the player name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the change was queued, {@code false} if the player is unknown
      */
     public boolean playerAdd(String world, String player, String permission) {
-        return false;
+        return queuePlayerNode(world, player, permission, true);
     }
 
     /**
-     * Adds a transient permission to a player (not implemented - read-only).
+     * Adds a transient permission to an online player.
+     * 
+     * <p>Transient permissions are held in memory by VaultLite, apply in
+     * every world and are cleared when the player quits. They never reach
+     * LuckPerms storage or trigger a recalculation.</p>
      * 
-     * @param world the world
+     * @param world the world (not used for transient permissions)
      * @param player the player name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the permission was granted, {@code false} if the player is not online
      */
     public boolean playerAddTransient(String world, String player, String permission) {
-        return false;
+        UUID uniqueId = onlineUniqueId(player);
+        if (uniqueId == null || permission == null) {
+            return false;
+        }
+        
+        transientPermissions.add(uniqueId, permission);
+        return true;
+    }
+
+    /**
+     * Adds a transient permission to an online player.
+     * 
+     * @param player the player
+     * @param permission the permission
+     * @return {@code true} if the permission was granted
+     */
+    @Override
+    public boolean playerAddTransient(Player player, String permission) {
+        if (player == null || permission == null) {
+            return false;
+        }
+        
+        transientPermissions.add(player.getUniqueId(), permission);
+        return true;
     }
 
     /**
-     * Removes a permission from a player (not implemented - read-only).
+     * Removes a permission from a player.
      * 
-     * @param world the world
+     * <p>The change is queued on the write-behind pipeline; until it is
+     * saved, checks of the permission return {@code false}.</p>
+     * 
+     * @param world the world the permission is scoped to (can be null)
      * @param player the player name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the change was queued, {@code false} if the player is unknown
      */
     public boolean playerRemove(String world, String player, String permission) {
-        return false;
+        return queuePlayerNode(world, player, permission, false);
     }
 
     /**
-     * Removes a transient permission from a player (not implemented - read-only).
+     * Removes a transient permission from an online player.
      * 
-     * @param world the world
+     * @param world the world (not used for transient permissions)
      * @param player the player name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the permission was granted before, {@code false} otherwise
      */
     public boolean playerRemoveTransient(String world, String player, String permission) {
-        return false;
+        UUID uniqueId = onlineUniqueId(player);
+        return uniqueId != null && permission != null && transientPermissions.remove(uniqueId, permission);
+    }
+
+    /**
+     * Removes a transient permission from an online player.
+     * 
+     * @param player the player
+     * @param permission the permission
+     * @return {@code true} if the permission was granted before, {@code false} otherwise
+     */
+    @Override
+    public boolean playerRemoveTransient(Player player, String permission) {
+        return player != null && permission != null
+                && transientPermissions.remove(player.getUniqueId(), permission);
     }
 
     /**
-     * Checks if a group has a permission (not implemented - read-only).
+     * Resolves the UUID of a player that is currently online.
      * 
-     * @param world the world
+     * @param playerName the player name
+     * @return the player's UUID or null if unknown or offline
+     */
+    private UUID onlineUniqueId(String playerName) {
+        if (playerName == null || luckPerms == null) {
+            return null;
+        }
+        
+        UUID uniqueId = nameIndex.resolve(playerName);
+        return uniqueId != null && Bukkit.getPlayer(uniqueId) != null ? uniqueId : null;
+    }
+
+    /**
+     * Checks if a group has a permission.
+     * 
+     * <p>Decisions are resolved from the group's cached permission data in
+     * the requested world and cached per group and world.</p>
+     * 
+     * @param world the world to check the permission in (can be null)
      * @param group the group name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the group has the permission, {@code false} otherwise
      */
     public boolean groupHas(String world, String group, String permission) {
-        return false;
+        if (group == null || permission == null || luckPerms == null) {
+            return false;
+        }
+        
+        Boolean pending = groupOverlay.get(group.toLowerCase(Locale.ROOT), world, permission);
+        if (pending != null) {
+            return pending || inheritedDecision(luckPerms.getGroupManager().getGroup(group), world, permission);
+        }
+        
+        PermissionDecisionCache.Decisions groupDecisions = groupDecisionCache.forHolder(group, world, groupLoaded);
+        Boolean cached = groupDecisions.get(permission);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Group luckPermsGroup = luckPerms.getGroupManager().getGroup(group);
+        if (luckPermsGroup == null) {
+            return false;
+        }
+        
+        return resolve(luckPermsGroup.getCachedData().getPermissionData(worldQueryOptions.forWorld(world)),
+                groupDecisions, permission);
     }
 
     /**
-     * Adds a permission to a group (not implemented - read-only).
+     * Adds a permission to a group.
+     * 
+     * <p>The change is queued on the write-behind pipeline and visible to
+     * {@link #groupHas(String, String, String)} immediately.</p>
      * 
-     * @param world the world
+     * @param world the world to scope the permission to (can be null)
      * @param group the group name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the change was queued, {@code false} if the group does not exist
      */
     public boolean groupAdd(String world, String group, String permission) {
-        return false;
+        return queueGroupNode(world, group, permission, true);
     }
 
     /**
-     * Removes a permission from a group (not implemented - read-only).
+     * Removes a permission from a group.
      * 
-     * @param world the world
+     * @param world the world the permission is scoped to (can be null)
      * @param group the group name
      * @param permission the permission
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the change was queued, {@code false} if the group does not exist
      */
     public boolean groupRemove(String world, String group, String permission) {
-        return false;
+        return queueGroupNode(world, group, permission, false);
     }
 
     /**
-     * Adds a player to a group (not implemented - read-only).
+     * Adds a player to a group.
      * 
-     * @param world the world
+     * @param world the world to scope the membership to (can be null)
      * @param playerName the player name
      * @param group the group name
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the change was queued, {@code false} if the player is unknown
      */
     public boolean playerAddGroup(String world, String playerName, String group) {
-        return false;
+        return queuePlayerGroup(world, playerName, group, true);
     }
 
     /**
-     * Removes a player from a group (not implemented - read-only).
+     * Removes a player from a group.
      * 
-     * @param world the world
+     * @param world the world the membership is scoped to (can be null)
      * @param playerName the player name
      * @param group the group name
-     * @return always {@code false} since it's read-only
+     * @return {@code true} if the change was queued, {@code false} if the player is unknown
      */
     public boolean playerRemoveGroup(String world, String playerName, String group) {
-        return false;
+        return queuePlayerGroup(world, playerName, group, false);
     }
 
     /**
-     * Returns the UUID of a player (not implemented).
+     * Queues a permission node change for a player.
      * 
+     * @param world the world the node is scoped to (can be null)
      * @param playerName the player name
-     * @return always {@code null} since not implemented
+     * @param permission the permission
+     * @param add {@code true} to add the node, {@code false} to remove it
+     * @return {@code true} if the change was queued
+     */
+    private boolean queuePlayerNode(String world, String playerName, String permission, boolean add) {
+        if (playerName == null || permission == null || luckPerms == null) {
+            return false;
+        }
+        
+        UUID uniqueId = nameIndex.resolve(playerName);
+        if (uniqueId == null) {
+            return false;
+        }
+        
+        queueUserChange(uniqueId, world, permission, add, PermissionNode.builder(permission));
+        return true;
+    }
+
+    /**
+     * Queues a group membership change for a player.
+     * 
+     * @param world the world the membership is scoped to (can be null)
+     * @param playerName the player name
+     * @param group the group name
+     * @param add {@code true} to add the membership, {@code false} to remove it
+     * @return {@code true} if the change was queued
+     */
+    private boolean queuePlayerGroup(String world, String playerName, String group, boolean add) {
+        if (playerName == null || group == null || luckPerms == null) {
+            return false;
+        }
+        
+        UUID uniqueId = nameIndex.resolve(playerName);
+        if (uniqueId == null) {
+            return false;
+        }
+        
+        String groupName = group.toLowerCase(Locale.ROOT);
+        queueUserChange(uniqueId, world, GROUP_NODE_PREFIX + groupName, add, InheritanceNode.builder(groupName));
+        return true;
+    }
+
+    /**
+     * Queues a permission node change for a group.
+     * 
+     * @param world the world the node is scoped to (can be null)
+     * @param group the group name
+     * @param permission the permission
+     * @param add {@code true} to add the node, {@code false} to remove it
+     * @return {@code true} if the change was queued
+     */
+    private boolean queueGroupNode(String world, String group, String permission, boolean add) {
+        if (group == null || permission == null || luckPerms == null
+                || luckPerms.getGroupManager().getGroup(group) == null) {
+            return false;
+        }
+        
+        String groupName = group.toLowerCase(Locale.ROOT);
+        PendingOverlay.Change<Boolean> change = groupOverlay.put(groupName, world, permission, add);
+        Consumer<PermissionHolder> mutation = nodeMutation(world, permission, add, PermissionNode.builder(permission));
+        mutationQueue.submitGroup(groupName, mutationKey(world, permission), mutation)
+                .whenComplete((ignored, error) -> {
+                    groupOverlay.remove(groupName, world, permission, change);
+                    invalidateGroups();
+                });
+        return true;
+    }
+
+    /**
+     * Records a user change in the overlay and queues it for LuckPerms.
+     * 
+     * @param uniqueId the user UUID
+     * @param world the world the node is scoped to (can be null)
+     * @param nodeKey the node key
+     * @param add {@code true} to add the node, {@code false} to remove it
+     * @param builder the builder of the node to add
+     */
+    private void queueUserChange(UUID uniqueId, String world, String nodeKey, boolean add, NodeBuilder<?, ?> builder) {
+        PendingOverlay.Change<Boolean> change = userOverlay.put(uniqueId, world, nodeKey, add);
+        mutationQueue.submitUser(uniqueId, mutationKey(world, nodeKey), nodeMutation(world, nodeKey, add, builder))
+                .whenComplete((ignored, error) -> {
+                    userOverlay.remove(uniqueId, world, nodeKey, change);
+                    invalidateUser(uniqueId);
+                });
+    }
+
+    /**
+     * Builds the mutation replacing or removing a node in a world.
+     * 
+     * <p>Existing nodes with the same key and context are always cleared
+     * first, so adding a node also overrides a previously negated one.</p>
+     * 
+     * @param world the world the node is scoped to (can be null)
+     * @param nodeKey the node key
+     * @param add {@code true} to add the node, {@code false} to only remove it
+     * @param builder the builder of the node to add
+     * @return the mutation to queue
+     */
+    private static Consumer<PermissionHolder> nodeMutation(String world, String nodeKey, boolean add, NodeBuilder<?, ?> builder) {
+        ImmutableContextSet context = world == null
+                ? ImmutableContextSet.empty()
+                : ImmutableContextSet.of(DefaultContextKeys.WORLD_KEY, world);
+        Node node = builder.value(true).context(context).build();
+        
+        return holder -> {
+            holder.data().clear(existing -> existing.getKey().equalsIgnoreCase(nodeKey)
+                    && existing.getContexts().equals(context));
+            if (add) {
+                holder.data().add(node);
+            }
+        };
+    }
+
+    /**
+     * Returns the coalescing key of a node change.
+     * 
+     * @param world the world the node is scoped to (can be null)
+     * @param nodeKey the node key
+     * @return the key under which later changes of the same node replace earlier ones
+     */
+    private static String mutationKey(String world, String nodeKey) {
+        String lowerKey = nodeKey.toLowerCase(Locale.ROOT);
+        return world == null ? lowerKey : world + '|' + lowerKey;
+    }
+
+    /**
+     * Applies every queued mutation and releases the write-behind thread.
+     * 
+     * <p>Called when the plugin is disabled.</p>
+     */
+    public void shutdown() {
+        if (mutationQueue != null) {
+            mutationQueue.shutdown();
+        }
+    }
+
+    /**
+     * Returns the UUID of a player.
+     * 
+     * <p>Online players resolve from the name index without allocation.
+     * Offline names are looked up in LuckPerms storage once and cached; on
+     * the server thread the first lookup of an unknown name returns
+     * {@code null} while it runs.</p>
+     * 
+     * @param playerName the player name (any case)
+     * @return the player's UUID or null if unknown
      */
     public UUID getUUID(String playerName) {
-        return null;
+        if (playerName == null || luckPerms == null) {
+            return null;
+        }
+        
+        return nameIndex.resolve(playerName);
+    }
+
+    /**
+     * Returns asynchronously the UUID of a player.
+     * 
+     * @param playerName the player name (any case)
+     * @return a future completed with the player's UUID, or with null if unknown
+     */
+    public CompletableFuture<UUID> getUUIDAsync(String playerName) {
+        if (playerName == null || luckPerms == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return nameIndex.resolveAsync(playerName);
+    }
+
+    /**
+     * Bukkit listener that keeps player and world caches in sync with the server.
+     */
+    public class PermissionServerListener implements Listener {
+
+        /**
+         * Drops the cached entries and transient permissions of a player on quit and unindexes the name.
+         * 
+         * @param event the quit event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerQuit(PlayerQuitEvent event) {
+            invalidateUser(event.getPlayer().getUniqueId());
+            transientPermissions.clear(event.getPlayer().getUniqueId());
+            nameIndex.remove(event.getPlayer());
+        }
+
+        /**
+         * Indexes the name of a joining player before other plugins handle the join.
+         * 
+         * @param event the join event
+         */
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onPlayerJoin(PlayerJoinEvent event) {
+            nameIndex.add(event.getPlayer());
+        }
+
+        /**
+         * Precomputes the query options of a newly loaded world.
+         * 
+         * @param event the world load event
+         */
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onWorldLoad(WorldLoadEvent event) {
+            worldQueryOptions.load(event.getWorld().getName());
+        }
+
+        /**
+         * Drops the query options of an unloaded world.
+         * 
+         * @param event the world unload event
+         */
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onWorldUnload(WorldUnloadEvent event) {
+            worldQueryOptions.unload(event.getWorld().getName());
+        }
     }
 }
@@ -0,0 +1,270 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import net.luckperms.api.model.user.UserManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index from player names to UUIDs backing every name-based lookup.
+ *
+ * <p>Online players are indexed on join, both by their exact name and by
+ * their lowercase name, so plugins passing the name as Minecraft reports it
+ * resolve with a single lookup and no allocation. Other names fall back to
+ * {@link UserManager#lookupUniqueId(String)}, whose answers are cached;
+ * unknown names are remembered for a short time so repeated misses do not
+ * hit storage.</p>
+ *
+ * <p>Like {@link OfflineUserCache}, a storage lookup never blocks the
+ * server thread: the first call returns {@code null} and the next one is
+ * served from memory.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class PlayerNameIndex {
+
+    /**
+     * Maximum number of offline names remembered.
+     */
+    private static final int MAX_KNOWN_NAMES = 4096;
+
+    /**
+     * Maximum number of unknown names remembered.
+     */
+    private static final int MAX_UNKNOWN_NAMES = 4096;
+
+    /**
+     * Time during which an unknown name is not looked up again.
+     */
+    private static final long NEGATIVE_TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * LuckPerms user manager used for storage lookups.
+     */
+    private final UserManager userManager;
+
+    /**
+     * Online players indexed by exact name.
+     */
+    private final Map<String, UUID> onlineByName = new ConcurrentHashMap<>();
+
+    /**
+     * Online players indexed by lowercase name.
+     */
+    private final Map<String, UUID> onlineByLowerName = new ConcurrentHashMap<>();
+
+    /**
+     * Offline players indexed by lowercase name, from quits and storage lookups.
+     */
+    private final Map<String, UUID> knownByLowerName = new ConcurrentHashMap<>();
+
+    /**
+     * Expiry timestamps of names that storage does not know.
+     */
+    private final Map<String, Long> unknownNames = new ConcurrentHashMap<>();
+
+    /**
+     * Storage lookups in progress indexed by lowercase name.
+     */
+    private final Map<String, CompletableFuture<UUID>> pendingLookups = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new index seeded with the players already online.
+     *
+     * @param userManager the LuckPerms user manager
+     */
+    public PlayerNameIndex(UserManager userManager) {
+        this.userManager = userManager;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            add(player);
+        }
+    }
+
+    /**
+     * Indexes an online player.
+     *
+     * @param player the player that joined
+     */
+    public void add(Player player) {
+        String lowerName = player.getName().toLowerCase(Locale.ROOT);
+        onlineByName.put(player.getName(), player.getUniqueId());
+        onlineByLowerName.put(lowerName, player.getUniqueId());
+        unknownNames.remove(lowerName);
+    }
+
+    /**
+     * Moves a player that left the server to the offline index.
+     *
+     * @param player the player that quit
+     */
+    public void remove(Player player) {
+        String lowerName = player.getName().toLowerCase(Locale.ROOT);
+        onlineByName.remove(player.getName(), player.getUniqueId());
+        onlineByLowerName.remove(lowerName, player.getUniqueId());
+        remember(lowerName, player.getUniqueId());
+    }
+
+    /**
+     * Resolves a player name to a UUID.
+     *
+     * @param playerName the player name (any case)
+     * @return the UUID or null if unknown or not resolved yet
+     */
+    public UUID resolve(String playerName) {
+        UUID uniqueId = onlineByName.get(playerName);
+        if (uniqueId != null) {
+            return uniqueId;
+        }
+
+        String lowerName = playerName.toLowerCase(Locale.ROOT);
+        uniqueId = cached(lowerName);
+        if (uniqueId != null || isKnownUnknown(lowerName)) {
+            return uniqueId;
+        }
+
+        CompletableFuture<UUID> lookup = lookup(lowerName);
+        if (Bukkit.isPrimaryThread()) {
+            return lookup.getNow(null);
+        }
+
+        try {
+            return lookup.join();
+        } catch (CompletionException exception) {
+            log.warn("[VaultLite] ⚠ Falha ao resolver UUID de {}", playerName, exception.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Resolves a player name to a UUID without blocking.
+     *
+     * @param playerName the player name (any case)
+     * @return a future completed with the UUID, or with null if unknown
+     */
+    public CompletableFuture<UUID> resolveAsync(String playerName) {
+        UUID uniqueId = onlineByName.get(playerName);
+        if (uniqueId != null) {
+            return CompletableFuture.completedFuture(uniqueId);
+        }
+
+        String lowerName = playerName.toLowerCase(Locale.ROOT);
+        uniqueId = cached(lowerName);
+        if (uniqueId != null || isKnownUnknown(lowerName)) {
+            return CompletableFuture.completedFuture(uniqueId);
+        }
+        return lookup(lowerName);
+    }
+
+    /**
+     * Returns a UUID already held in memory for a lowercase name.
+     *
+     * @param lowerName the lowercase name
+     * @return the UUID or null if not indexed
+     */
+    private UUID cached(String lowerName) {
+        UUID uniqueId = onlineByLowerName.get(lowerName);
+        return uniqueId != null ? uniqueId : knownByLowerName.get(lowerName);
+    }
+
+    /**
+     * Checks whether a name is in the negative cache.
+     *
+     * @param lowerName the lowercase name
+     * @return {@code true} if the name was recently reported unknown
+     */
+    private boolean isKnownUnknown(String lowerName) {
+        Long expiresAt = unknownNames.get(lowerName);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt < 0) {
+            return true;
+        }
+        unknownNames.remove(lowerName, expiresAt);
+        return false;
+    }
+
+    /**
+     * Looks a name up in LuckPerms storage, sharing any lookup already in progress.
+     *
+     * @param lowerName the lowercase name
+     * @return a future completed with the UUID, or with null if unknown
+     */
+    private CompletableFuture<UUID> lookup(String lowerName) {
+        CompletableFuture<UUID> created = new CompletableFuture<>();
+        CompletableFuture<UUID> existing = pendingLookups.putIfAbsent(lowerName, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        userManager.lookupUniqueId(lowerName).whenComplete((uniqueId, error) -> {
+            if (uniqueId != null) {
+                remember(lowerName, uniqueId);
+            } else if (error == null) {
+                rememberUnknown(lowerName);
+            }
+            pendingLookups.remove(lowerName, created);
+
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(uniqueId);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Remembers the UUID of an offline name, evicting an arbitrary entry when full.
+     *
+     * @param lowerName the lowercase name
+     * @param uniqueId the UUID
+     */
+    private void remember(String lowerName, UUID uniqueId) {
+        if (knownByLowerName.size() >= MAX_KNOWN_NAMES) {
+            Iterator<String> names = knownByLowerName.keySet().iterator();
+            if (names.hasNext()) {
+                names.next();
+                names.remove();
+            }
+        }
+        knownByLowerName.put(lowerName, uniqueId);
+    }
+
+    /**
+     * Remembers a name that storage does not know.
+     *
+     * <p>When the negative cache is full, expired names are swept first and
+     * an arbitrary entry is evicted if it is still full, so names that are
+     * never looked up again cannot grow it without bound.</p>
+     *
+     * @param lowerName the lowercase name
+     */
+    private void rememberUnknown(String lowerName) {
+        long now = System.nanoTime();
+        if (unknownNames.size() >= MAX_UNKNOWN_NAMES) {
+            unknownNames.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            Iterator<String> names = unknownNames.keySet().iterator();
+            while (unknownNames.size() >= MAX_UNKNOWN_NAMES && names.hasNext()) {
+                names.next();
+                names.remove();
+            }
+        }
+        unknownNames.put(lowerName, now + NEGATIVE_TTL_NANOS);
+    }
+}
@@ -0,0 +1,70 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory store of transient permissions granted through Vault.
+ *
+ * <p>Transient permissions are never persisted and never touch LuckPerms, so
+ * toggling them does not trigger storage writes or data recalculation. They
+ * are consulted before any LuckPerms lookup and cleared when the player
+ * leaves the server.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TransientPermissions {
+
+    /**
+     * Granted transient permissions indexed by player UUID.
+     */
+    private final Map<UUID, Set<String>> granted = new ConcurrentHashMap<>();
+
+    /**
+     * Grants a transient permission.
+     *
+     * @param uniqueId the player UUID
+     * @param permission the permission
+     * @return {@code true} if the permission was not granted before
+     */
+    public boolean add(UUID uniqueId, String permission) {
+        return granted.computeIfAbsent(uniqueId, id -> ConcurrentHashMap.newKeySet()).add(permission);
+    }
+
+    /**
+     * Revokes a transient permission.
+     *
+     * @param uniqueId the player UUID
+     * @param permission the permission
+     * @return {@code true} if the permission was granted
+     */
+    public boolean remove(UUID uniqueId, String permission) {
+        Set<String> permissions = granted.get(uniqueId);
+        return permissions != null && permissions.remove(permission);
+    }
+
+    /**
+     * Checks whether a transient permission is granted.
+     *
+     * @param uniqueId the player UUID
+     * @param permission the permission
+     * @return {@code true} if the permission is granted
+     */
+    public boolean has(UUID uniqueId, String permission) {
+        Set<String> permissions = granted.get(uniqueId);
+        return permissions != null && permissions.contains(permission);
+    }
+
+    /**
+     * Revokes every transient permission of a player.
+     *
+     * @param uniqueId the player UUID
+     */
+    public void clear(UUID uniqueId) {
+        granted.remove(uniqueId);
+    }
+}
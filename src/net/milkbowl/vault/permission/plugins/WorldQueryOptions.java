@@ -0,0 +1,96 @@
+package net.milkbowl.vault.permission.plugins;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.context.DefaultContextKeys;
+import net.luckperms.api.context.ImmutableContextSet;
+import net.luckperms.api.query.QueryOptions;
+
+/**
+ * Registry of precomputed, immutable {@link QueryOptions} per world.
+ *
+ * <p>Building a context set for every world-scoped lookup would allocate on
+ * each call, so one instance is built when a world loads and reused until it
+ * unloads. A world-scoped lookup then costs the same as the default-context
+ * path: a single map read.</p>
+ *
+ * <p>Each instance carries the server's static LuckPerms contexts plus the
+ * {@code world} context.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class WorldQueryOptions {
+
+    /**
+     * LuckPerms API instance used to read the static context.
+     */
+    private final LuckPerms luckPerms;
+
+    /**
+     * Interned query options indexed by world name.
+     */
+    private final Map<String, QueryOptions> optionsByWorld = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new, empty registry.
+     *
+     * @param luckPerms the LuckPerms API instance
+     */
+    public WorldQueryOptions(LuckPerms luckPerms) {
+        this.luckPerms = luckPerms;
+    }
+
+    /**
+     * Returns the query options for a world.
+     *
+     * <p>Worlds that are not loaded get freshly built options that are not
+     * retained, so typos from callers cannot grow the registry.</p>
+     *
+     * @param worldName the world name (can be null)
+     * @return the world-scoped options, or the default contextual options if the world is null
+     */
+    public QueryOptions forWorld(String worldName) {
+        if (worldName == null) {
+            return QueryOptions.defaultContextualOptions();
+        }
+
+        QueryOptions options = optionsByWorld.get(worldName);
+        return options != null ? options : build(worldName);
+    }
+
+    /**
+     * Builds and retains the query options of a loaded world.
+     *
+     * @param worldName the world name
+     */
+    public void load(String worldName) {
+        optionsByWorld.put(worldName, build(worldName));
+    }
+
+    /**
+     * Drops the query options of an unloaded world.
+     *
+     * @param worldName the world name
+     */
+    public void unload(String worldName) {
+        optionsByWorld.remove(worldName);
+    }
+
+    /**
+     * Builds contextual query options combining the static context and the world.
+     *
+     * @param worldName the world name
+     * @return the immutable query options
+     */
+    private QueryOptions build(String worldName) {
+        ImmutableContextSet context = ImmutableContextSet.builder()
+                .addAll(luckPerms.getContextManager().getStaticContext())
+                .add(DefaultContextKeys.WORLD_KEY, worldName)
+                .build();
+        return QueryOptions.contextual(context);
+    }
+}
@@ -0,0 +1,224 @@
+package net.milkbowl.vault.economy.plugins;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Behavior every {@link EconomyStorage} backend must share.
+ *
+ * <p>Each backend test extends this class and only says how to open the
+ * backend in a directory, so all of them run the same round-trip, overwrite,
+ * reload and batched workload checks.</p>
+ *
+ * <p>The throughput measurement is tagged {@code benchmark}: it is left out
+ * of {@code gradle test} and runs with {@code gradle benchmark}, which
+ * publishes the rows per second of each backend as a report entry.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+abstract class EconomyStorageContract {
+
+    /**
+     * Accounts touched by the batched workload.
+     */
+    private static final int WORKLOAD_ACCOUNTS = 10_000;
+
+    /**
+     * Batches written by the batched workload.
+     */
+    private static final int WORKLOAD_BATCHES = 40;
+
+    /**
+     * Accounts per batch of the batched workload, a typical flush.
+     */
+    private static final int WORKLOAD_BATCH_SIZE = 500;
+
+    /**
+     * Directory holding the backend's files.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * Backend under test, closed after each test.
+     */
+    private EconomyStorage storage;
+
+    /**
+     * Opens the backend under test in a directory.
+     *
+     * @param directory the directory holding the backend's files
+     * @return the backend
+     */
+    abstract EconomyStorage open(Path directory);
+
+    @AfterEach
+    void closeStorage() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    void startsEmpty() throws IOException {
+        assertEquals(Map.of(), storage().load());
+    }
+
+    @Test
+    void roundTripsBalances() throws IOException {
+        Map<UUID, Long> balances = balances(100, 7L);
+        storage().upsert(balances);
+
+        assertEquals(balances, storage().load());
+    }
+
+    @Test
+    void overwritesExistingBalances() throws IOException {
+        UUID uniqueId = UUID.randomUUID();
+        storage().upsert(Map.of(uniqueId, 100L));
+        storage().upsert(Map.of(uniqueId, 250L));
+
+        assertEquals(Map.of(uniqueId, 250L), storage().load());
+    }
+
+    @Test
+    void reloadsAfterClose() throws IOException {
+        Map<UUID, Long> balances = balances(100, 3L);
+        UUID overwritten = balances.keySet().iterator().next();
+        storage().upsert(balances);
+        storage().upsert(Map.of(overwritten, 99L));
+        balances.put(overwritten, 99L);
+        reopen();
+
+        assertEquals(balances, storage().load());
+    }
+
+    @Test
+    void streamsTheSameBalancesAsLoad() throws IOException {
+        storage().upsert(balances(100, 5L));
+        Map<UUID, Long> streamed = new HashMap<>();
+        storage().forEach(streamed::put);
+
+        assertEquals(storage().load(), streamed);
+    }
+
+    @Test
+    void writerStoresPendingChangesOnClose() throws IOException {
+        UUID changed = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        storage().upsert(Map.of(untouched, 10L));
+
+        Map<UUID, AtomicLong> accounts = new ConcurrentHashMap<>();
+        accounts.put(changed, new AtomicLong(42L));
+        accounts.put(untouched, new AtomicLong(10L));
+        EconomyStorageWriter writer = new EconomyStorageWriter(storage(), accounts, 60_000L);
+        writer.markDirty(changed);
+        writer.close();
+        storage = null;
+
+        assertEquals(Map.of(changed, 42L, untouched, 10L), storage().load());
+    }
+
+    @Test
+    void storesEveryBatchOfAWorkload() throws IOException {
+        Map<UUID, Long> expected = new HashMap<>();
+        runWorkload(expected);
+        reopen();
+        Map<UUID, Long> loaded = storage().load();
+
+        assertEquals(WORKLOAD_ACCOUNTS, loaded.size());
+        assertEquals(expected, loaded);
+        assertEquals((WORKLOAD_BATCHES - 1) * 100L + WORKLOAD_BATCH_SIZE - 1,
+                loaded.values().stream().mapToLong(Long::longValue).max().orElse(-1L));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void measuresWorkloadThroughput(TestReporter reporter) throws IOException {
+        long start = System.nanoTime();
+        runWorkload(new HashMap<>());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long rows = (long) WORKLOAD_BATCHES * WORKLOAD_BATCH_SIZE;
+        reporter.publishEntry(storage().getName() + ".rowsPerSecond", String.format("%.0f", rows / seconds));
+    }
+
+    /**
+     * Returns the backend under test, opening it on first use.
+     *
+     * @return the backend
+     */
+    private EconomyStorage storage() {
+        if (storage == null) {
+            storage = open(directory);
+        }
+        return storage;
+    }
+
+    /**
+     * Closes the backend and opens a fresh instance on the same files.
+     *
+     * @throws IOException if the backend cannot be closed
+     */
+    private void reopen() throws IOException {
+        storage().close();
+        storage = open(directory);
+    }
+
+    /**
+     * Upserts the batches of a typical flush workload over a fixed set of accounts.
+     *
+     * <p>Batch {@code b} writes {@code b * 100 + offset}, so the highest
+     * stored balance tells which batch landed last.</p>
+     *
+     * @param expected the map receiving the last balance written per account
+     * @throws IOException if a batch cannot be stored
+     */
+    private void runWorkload(Map<UUID, Long> expected) throws IOException {
+        UUID[] uniqueIds = new UUID[WORKLOAD_ACCOUNTS];
+        for (int index = 0; index < uniqueIds.length; index++) {
+            uniqueIds[index] = UUID.randomUUID();
+        }
+
+        for (int batchIndex = 0; batchIndex < WORKLOAD_BATCHES; batchIndex++) {
+            Map<UUID, Long> batch = new LinkedHashMap<>();
+            for (int offset = 0; offset < WORKLOAD_BATCH_SIZE; offset++) {
+                UUID uniqueId = uniqueIds[(batchIndex * WORKLOAD_BATCH_SIZE + offset) % WORKLOAD_ACCOUNTS];
+                batch.put(uniqueId, (long) batchIndex * 100 + offset);
+            }
+            storage().upsert(batch);
+            expected.putAll(batch);
+        }
+    }
+
+    /**
+     * Builds balances for random accounts.
+     *
+     * @param count the number of accounts
+     * @param step the balance increment between accounts
+     * @return the balances, indexed by player UUID
+     */
+    private static Map<UUID, Long> balances(int count, long step) {
+        Map<UUID, Long> balances = new HashMap<>();
+        for (int index = 0; index < count; index++) {
+            balances.put(UUID.randomUUID(), index * step);
+        }
+        return balances;
+    }
+}
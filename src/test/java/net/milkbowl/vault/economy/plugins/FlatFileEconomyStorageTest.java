@@ -0,0 +1,21 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the storage contract against {@link FlatFileEconomyStorage}.
+ *
+ * <p>The compaction threshold is kept small so the workload also goes
+ * through snapshot compaction.</p>
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class FlatFileEconomyStorageTest extends EconomyStorageContract {
+
+    @Override
+    EconomyStorage open(Path directory) {
+        return new FlatFileEconomyStorage(directory, 64L * 1024L);
+    }
+}
@@ -0,0 +1,18 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the storage contract against {@link JdbcEconomyStorage} on an embedded H2 file.
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class H2EconomyStorageTest extends EconomyStorageContract {
+
+    @Override
+    EconomyStorage open(Path directory) {
+        return new JdbcEconomyStorage("jdbc:h2:file:" + directory.resolve("balances").toAbsolutePath(), null, null);
+    }
+}
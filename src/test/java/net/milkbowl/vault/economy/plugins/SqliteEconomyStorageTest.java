@@ -0,0 +1,18 @@
+package net.milkbowl.vault.economy.plugins;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the storage contract against {@link JdbcEconomyStorage} on an embedded SQLite file.
+ *
+ * @author VaultLite Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class SqliteEconomyStorageTest extends EconomyStorageContract {
+
+    @Override
+    EconomyStorage open(Path directory) {
+        return new JdbcEconomyStorage("jdbc:sqlite:" + directory.resolve("balances.db"), null, null);
+    }
+}